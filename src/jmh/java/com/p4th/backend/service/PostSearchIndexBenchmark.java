@@ -0,0 +1,85 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.Post;
+import com.p4th.backend.util.SearchBenchmarkCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 수에 따른 검색 지연 시간. 상위 20건 검색 시간은 전체 게시글 수가 아니라 검색어의 가장 짧은 게시물 목록 길이에 비례해야 한다.
+ *   - searchCommonTerms: 코퍼스 문단의 단어라 게시글 수에 비례해 일치하는 게시글도 늘어나는 검색어
+ *   - searchRareTerm: 게시글 수와 관계없이 RARE_POSTS 건에만 있는 검색어 (지연 시간이 일정해야 함)
+ * 실행: ./gradlew jmh -Pjmh.includes=PostSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PostSearchIndexBenchmark {
+
+    private static final int BODY_LENGTH = 1000;
+    private static final int RARE_POSTS = 50;
+    private static final String RARE_TERM = "한정판굿즈";
+
+    @Param({"10000", "50000", "100000"})
+    public int posts;
+
+    private PostSearchIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SearchBenchmarkCorpus corpus = new SearchBenchmarkCorpus(1);
+        index = new PostSearchIndex(null);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < posts; i++) {
+            Post post = new Post();
+            post.setPostId(String.format("p%08d", i));
+            post.setBoardId("b" + (i % 20));
+            post.setUserId("u" + (i % 2000));
+            post.setNickname("회원" + (i % 2000));
+            post.setTitle(i % (posts / RARE_POSTS) == 0 ? RARE_TERM + " " + corpus.title() : corpus.title());
+            post.setContent(corpus.html(BODY_LENGTH));
+            post.setCreatedAt(createdAt.plusMinutes(i));
+            index.upsert(post);
+        }
+        queries = SearchBenchmarkCorpus.queries();
+    }
+
+    private String nextQuery() {
+        next = (next + 1) % queries.length;
+        return queries[next];
+    }
+
+    @Benchmark
+    public PostSearchIndex.SearchHits searchCommonTerms() {
+        return index.search(nextQuery(), null, Set.of(), 0, 20);
+    }
+
+    @Benchmark
+    public PostSearchIndex.SearchHits searchCommonTermsInBoard() {
+        return index.search(nextQuery(), "b3", Set.of("u1", "u2"), 0, 20);
+    }
+
+    @Benchmark
+    public PostSearchIndex.SearchHits searchRareTerm() {
+        return index.search(RARE_TERM, null, Set.of(), 0, 20);
+    }
+}
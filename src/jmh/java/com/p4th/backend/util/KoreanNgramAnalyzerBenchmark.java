@@ -0,0 +1,73 @@
+package com.p4th.backend.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 분석기 처리량. 본문 길이별로 게시글 한 건을 분석하는 시간을 잰다 (글자당 처리량 = bodyLength / 측정 시간).
+ * 실행: ./gradlew jmh -Pjmh.includes=KoreanNgramAnalyzerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KoreanNgramAnalyzerBenchmark {
+
+    private static final int DOCUMENTS = 64;
+
+    @Param({"200", "2000", "20000"})
+    public int bodyLength;
+
+    private String[] plainTexts;
+    private String[] htmls;
+    private String[] titles;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SearchBenchmarkCorpus corpus = new SearchBenchmarkCorpus(1);
+        plainTexts = new String[DOCUMENTS];
+        htmls = new String[DOCUMENTS];
+        titles = new String[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            plainTexts[i] = corpus.plainText(bodyLength);
+            htmls[i] = corpus.html(bodyLength);
+            titles[i] = corpus.title();
+        }
+    }
+
+    private int nextDocument() {
+        next = (next + 1) % DOCUMENTS;
+        return next;
+    }
+
+    @Benchmark
+    public List<String> analyzeBody() {
+        return KoreanNgramAnalyzer.analyzeBodyForIndex(plainTexts[nextDocument()]);
+    }
+
+    // PostSearchIndex 가 게시글마다 하는 작업: HTML 본문 태그 제거 + 본문 분석
+    @Benchmark
+    public List<String> analyzeHtmlBody() {
+        return KoreanNgramAnalyzer.analyzeHtmlForIndex(htmls[nextDocument()]);
+    }
+
+    @Benchmark
+    public List<String> analyzeTitle() {
+        return KoreanNgramAnalyzer.analyzeForIndex(titles[nextDocument()]);
+    }
+}
@@ -0,0 +1,90 @@
+package com.p4th.backend.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 검색 벤치마크용 게시글 코퍼스.
+ * search-corpus/paragraphs.txt 의 커뮤니티 게시글 문단(한글 + 영문 기술 용어 + 숫자)을 고정 시드로 섞어
+ * 원하는 길이의 본문을 만든다. 에디터가 만드는 형태(p, b, br, img)로 감싼 HTML 본문도 함께 만든다.
+ */
+public final class SearchBenchmarkCorpus {
+
+    private static final String RESOURCE = "/search-corpus/paragraphs.txt";
+    private static final String[] QUERIES = {"김밥", "강릉", "아이들", "캠핑장", "spring", "mybatis", "오늘 점심", "프로젝트 버전", "검색"};
+
+    private final List<String> paragraphs;
+    private final Random random;
+
+    public SearchBenchmarkCorpus(long seed) {
+        this.paragraphs = loadParagraphs();
+        this.random = new Random(seed);
+    }
+
+    // 문단을 이어 붙여 length 글자 이상인 평문 본문
+    public String plainText(int length) {
+        StringBuilder text = new StringBuilder(length + 256);
+        while (text.length() < length) {
+            text.append(paragraphs.get(random.nextInt(paragraphs.size()))).append('\n');
+        }
+        return text.toString();
+    }
+
+    // 평문 길이가 length 글자 이상인 HTML 본문
+    public String html(int length) {
+        StringBuilder html = new StringBuilder(length * 2);
+        int textLength = 0;
+        int n = 0;
+        while (textLength < length) {
+            String paragraph = paragraphs.get(random.nextInt(paragraphs.size()));
+            int cut = paragraph.indexOf(' ', paragraph.length() / 2);
+            html.append("<p>");
+            if (cut > 0 && n % 3 == 0) {
+                html.append("<b>").append(paragraph, 0, cut).append("</b>").append(paragraph, cut, paragraph.length());
+            } else {
+                html.append(paragraph);
+            }
+            html.append("</p>");
+            if (n % 4 == 1) {
+                html.append("<p><img src=\"https://cdn.example.com/posts/").append(n).append(".jpg\"><br></p>");
+            }
+            textLength += paragraph.length() + 1;
+            n++;
+        }
+        return html.toString();
+    }
+
+    public String title() {
+        String paragraph = paragraphs.get(random.nextInt(paragraphs.size()));
+        return paragraph.substring(0, Math.min(30, paragraph.length()));
+    }
+
+    public static String[] queries() {
+        return QUERIES.clone();
+    }
+
+    private static List<String> loadParagraphs() {
+        try (InputStream in = SearchBenchmarkCorpus.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 코퍼스를 찾을 수 없습니다: " + RESOURCE);
+            }
+            List<String> lines = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    lines.add(line.trim());
+                }
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,11 +3,9 @@ package com.p4th.backend.aspect;
 import com.p4th.backend.annotation.RequireLogin;
 import com.p4th.backend.common.exception.CustomException;
 import com.p4th.backend.common.exception.ErrorCode;
-import com.p4th.backend.domain.AccountStatus;
-import com.p4th.backend.domain.User;
-import com.p4th.backend.mapper.AuthMapper;
 import com.p4th.backend.security.JwtProvider;
-import com.p4th.backend.service.AdminBlockService;
+import com.p4th.backend.service.IpBlacklistCache;
+import com.p4th.backend.service.UserAuthStatusCache;
 import com.p4th.backend.util.IpUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +22,8 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class LoginCheckAspect {
 
     private final JwtProvider jwtProvider;
-    private final AuthMapper authMapper;
-    private final AdminBlockService adminBlockService;
+    private final UserAuthStatusCache userAuthStatusCache;
+    private final IpBlacklistCache ipBlacklistCache;
 
     @Around("@annotation(requireLogin)")
     public Object checkLogin(ProceedingJoinPoint joinPoint, @SuppressWarnings("unused") RequireLogin requireLogin) throws Throwable {
@@ -38,12 +36,16 @@ public class LoginCheckAspect {
         if (userId == null) {
             throw new CustomException(ErrorCode.LOGIN_REQUIRED);
         }
-        User user = authMapper.selectByUserId(userId);
-        if (user.getAccountStatus() == AccountStatus.BLOCKED) {
+        // 계정 상태와 차단 IP는 메모리 캐시에서 확인 (요청마다 DB를 조회하지 않음)
+        UserAuthStatusCache.UserAuthStatus status = userAuthStatusCache.get(userId);
+        if (status == null) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (status.isBlocked()) {
             throw new CustomException(ErrorCode.BLOCKED_USER);
         }
         String ip = IpUtil.extractClientIp(request);
-        if (adminBlockService.isIpBlocked(ip)) {
+        if (ipBlacklistCache.isBlocked(ip)) {
             throw new CustomException(ErrorCode.BLOCKED_IP);
         }
         // userId를 request에 저장 (컨트롤러에서 재사용)
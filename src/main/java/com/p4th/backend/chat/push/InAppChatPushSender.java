@@ -2,6 +2,7 @@ package com.p4th.backend.chat.push;
 
 import com.p4th.backend.chat.domain.ChatNotification;
 import com.p4th.backend.chat.repository.ChatNotificationRepository;
+import com.p4th.backend.service.UnreadCountService;
 import com.p4th.backend.util.ULIDUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 public class InAppChatPushSender implements ChatPushSender {
 
     private final ChatNotificationRepository notificationRepository;
+    private final UnreadCountService unreadCountService;
 
     @Override
     public void send(String receiverId, String roomId, String messageId, String previewContent) {
@@ -26,5 +28,6 @@ public class InAppChatPushSender implements ChatPushSender {
                 .build();
 
         notificationRepository.save(notification);
+        unreadCountService.adjustChatCount(receiverId, 1);
     }
 }
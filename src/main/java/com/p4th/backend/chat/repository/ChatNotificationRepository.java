@@ -2,6 +2,22 @@ package com.p4th.backend.chat.repository;
 
 import com.p4th.backend.chat.domain.ChatNotification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatNotificationRepository extends JpaRepository<ChatNotification, String> {
+
+    long countByReceiverIdAndReadYnFalse(String receiverId);
+
+    // 채팅방에서 읽은 메시지(ULID 순)까지의 알림을 읽음 처리
+    @Modifying
+    @Query("""
+        UPDATE ChatNotification n SET n.readYn = true
+        WHERE n.receiverId = :receiverId AND n.roomId = :roomId
+          AND n.readYn = false AND n.messageId <= :messageId
+    """)
+    int markReadUpTo(@Param("receiverId") String receiverId,
+                     @Param("roomId") String roomId,
+                     @Param("messageId") String messageId);
 }
@@ -6,10 +6,12 @@ import com.p4th.backend.chat.dto.response.ChatMessageResponse;
 import com.p4th.backend.chat.dto.response.ChatNotificationPayload;
 import com.p4th.backend.chat.domain.ChatRoomParticipant;
 import com.p4th.backend.chat.push.ChatPushSender;
+import com.p4th.backend.chat.repository.ChatNotificationRepository;
 import com.p4th.backend.chat.repository.ChatRoomParticipantRepository;
 import com.p4th.backend.chat.util.ChatTimeUtil;
 import com.p4th.backend.chat.websocket.ChatPresenceTracker;
 import com.p4th.backend.common.exception.GlobalExceptionHandler;
+import com.p4th.backend.service.UnreadCountService;
 import com.p4th.backend.util.ULIDUtil;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -28,6 +30,8 @@ public class ChatSocketService {
     private final ChatRoomParticipantRepository chatRoomParticipantRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatPushSender chatPushSender;
+    private final ChatNotificationRepository chatNotificationRepository;
+    private final UnreadCountService unreadCountService;
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     private final ChatPresenceTracker chatPresenceTracker;
 
@@ -85,6 +89,13 @@ public class ChatSocketService {
         participant.setLastReadMessageId(request.getMessageId());
         chatRoomParticipantRepository.save(participant);
 
+        if (request.getMessageId() != null) {
+            int read = chatNotificationRepository.markReadUpTo(request.getUserId(), request.getRoomId(), request.getMessageId());
+            if (read > 0) {
+                unreadCountService.adjustChatCount(request.getUserId(), -read);
+            }
+        }
+
         try {
             messagingTemplate.convertAndSend("/topic/read." + request.getRoomId(), request);
         } catch (Exception e) {
@@ -45,6 +45,9 @@ public enum ErrorCode {
     //신고 관련
     REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, 20701, "error.reportNotFound"),
 
+    //알림 관련
+    NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, 20801, "error.notificationNotFound"),
+
     // 공통
     INVALID_INPUT(HttpStatus.BAD_REQUEST, 30100, "error.invalidInput"),
     ALREADY_PROCESSED(HttpStatus.BAD_REQUEST, 30101, "error.alreadyProcessed"),
@@ -0,0 +1,21 @@
+package com.p4th.backend.config;
+
+import com.p4th.backend.domain.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "p4th.notification-retention")
+public class NotificationRetentionProperties {
+    private int chunkSize = 1000;                 // 한 트랜잭션에서 보관 처리할 최대 알림 수
+    // 알림 타입별 보관 기간(일). 읽은 알림 중 생성 후 이 기간이 지난 알림을 보관 테이블로 옮김 (설정이 없거나 0 이하면 보관하지 않음)
+    // 전체 회원 대상 알림(공지)은 회원별 읽음 여부와 관계없이 생성 후 이 기간이 지나면 보관하므로, 읽지 않은 회원의 목록/개수에서도 빠진다
+    private Map<NotificationType, Integer> readDays = new EnumMap<>(NotificationType.class);
+}
@@ -1,8 +1,8 @@
 package com.p4th.backend.config;
 
 import com.p4th.backend.interceptor.AdminAuthorizationInterceptor;
-import com.p4th.backend.mapper.AdminUserMapper;
 import com.p4th.backend.security.JwtProvider;
+import com.p4th.backend.service.UserAuthStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,7 +18,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final JwtProvider jwtProvider;
-    private final AdminUserMapper adminUserMapper;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -50,7 +50,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         // 관리자 전용 API에 대해 관리자 인증 인터셉터 적용
-        registry.addInterceptor(new AdminAuthorizationInterceptor(jwtProvider, adminUserMapper))
+        registry.addInterceptor(new AdminAuthorizationInterceptor(jwtProvider, userAuthStatusCache))
                 .addPathPatterns("/api/admin/**");
     }
 
@@ -1,6 +1,7 @@
 package com.p4th.backend.controller;
 
 import com.p4th.backend.domain.Banner;
+import com.p4th.backend.dto.response.HomeResponse;
 import com.p4th.backend.dto.response.board.PopularBoardResponse;
 import com.p4th.backend.dto.response.post.PopularPostResponse;
 import com.p4th.backend.security.JwtProvider;
@@ -27,6 +28,24 @@ public class MainController {
     private final MainService mainService;
     private final JwtProvider jwtProvider;
 
+    @Operation(summary = "메인 화면 조회",
+               description = "배너 목록, 인기 게시판 목록, 인기 게시글 목록을 한 번에 조회한다." +
+                       "\n period 파라미터(HOURLY, DAILY, WEEKLY, MONTHLY)로 인기 게시글 조회 기간을 지정하며, 로그인 사용자가 차단한 작성자의 게시글은 제외된다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "메인 화면 조회 성공",
+                    content = @Content(schema = @Schema(implementation = HomeResponse.class))),
+            @ApiResponse(responseCode = "500", description = "메인 화면 조회 중 내부 서버 오류",
+                    content = @Content(schema = @Schema(implementation = com.p4th.backend.dto.response.ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<HomeResponse> getHome(
+            @Parameter(name = "period", description = "인기 게시글 조회 기간 (HOURLY, DAILY, WEEKLY, MONTHLY)", example = "DAILY")
+            @RequestParam(value = "period", defaultValue = "DAILY") String period,
+            HttpServletRequest httpRequest) {
+        String userId = jwtProvider.resolveUserId(httpRequest);
+        return ResponseEntity.ok().body(mainService.getHome(period, userId));
+    }
+
     @Operation(summary = "배너 목록 조회",
                description = "관리자 페이지에서 등록한 배너 목록을 조회한다." +
                        "\n 광고시작일~종료일이 현재 날짜에 해당되는 배너만 리턴되며 노출 순서(seq)대로 조회된다.")
@@ -67,9 +86,11 @@ public class MainController {
     public ResponseEntity<List<?>> getPopularPosts(
             @Parameter(name = "period", description = "조회 기간 (HOURLY, DAILY, WEEKLY, MONTHLY)", example = "HOURLY")
             @RequestParam(value = "period", defaultValue = "DAILY") String period,
+            @Parameter(name = "live", description = "true이면 현재 시각 기준 이동 구간(최근 1시간/24시간/7일/30일)의 실시간 순위를 반환", example = "false")
+            @RequestParam(value = "live", defaultValue = "false") boolean live,
             HttpServletRequest httpRequest) {
         String userId = jwtProvider.resolveUserId(httpRequest);
-        List<?> popularPosts = mainService.getPopularPosts(period, userId);
+        List<?> popularPosts = mainService.getPopularPosts(period, userId, live);
         return ResponseEntity.ok().body(popularPosts);
     }
 }
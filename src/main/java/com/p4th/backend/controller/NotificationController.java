@@ -1,6 +1,7 @@
 package com.p4th.backend.controller;
 
 import com.p4th.backend.annotation.RequireLogin;
+import com.p4th.backend.dto.request.NotificationReadRequest;
 import com.p4th.backend.dto.response.ErrorResponse;
 import com.p4th.backend.dto.response.NotificationResponse;
 import com.p4th.backend.dto.response.UnreadCountResponse;
@@ -54,19 +55,62 @@ public class NotificationController {
             @ApiResponse(responseCode = "200", description = "알림 읽음 처리 성공"),
             @ApiResponse(responseCode = "401", description = "로그인 후 이용가능한 메뉴",
                     content = @Content(schema = @Schema(implementation = com.p4th.backend.dto.response.ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "본인 알림이 아니거나 존재하지 않는 알림",
+                    content = @Content(schema = @Schema(implementation = com.p4th.backend.dto.response.ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "알림 읽음 처리 중 내부 서버 오류",
                     content = @Content(schema = @Schema(implementation = com.p4th.backend.dto.response.ErrorResponse.class)))
     })
     @RequireLogin
     @PutMapping(value = "/{notificationId}/read")
     public ResponseEntity<?> markNotificationAsRead(
+            HttpServletRequest request,
             @Parameter(name = "notificationId", description = "알림 ID", required = true)
             @PathVariable("notificationId") String notificationId) {
-        boolean updated = notificationService.markNotificationAsRead(notificationId);
+        String currentUserId = (String) request.getAttribute("currentUserId");
+        boolean updated = notificationService.markNotificationAsRead(currentUserId, notificationId);
         return ResponseEntity.ok("{\"updated\": " + updated + "}");
     }
 
-    @Operation(summary = "읽지 않은 알림 개수 조회", description = "사용자의 읽지 않은 알림 개수를 조회한다.")
+    @Operation(summary = "알림 전체 읽음 처리",
+            description = "기준 알림 ID 이하(기준 ID가 없으면 전체)의 알림을 모두 읽음 처리하고, 처리 후 읽지 않은 알림 개수를 반환한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "알림 전체 읽음 처리 성공",
+                    content = @Content(schema = @Schema(implementation = UnreadCountResponse.class))),
+            @ApiResponse(responseCode = "401", description = "로그인 후 이용가능한 메뉴",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @RequireLogin
+    @PutMapping(value = "/read-all")
+    public ResponseEntity<UnreadCountResponse> markAllRead(
+            HttpServletRequest request,
+            @Parameter(name = "upToNotificationId", description = "마지막으로 확인한 알림 ID (생략 시 전체)")
+            @RequestParam(value = "upToNotificationId", required = false) String upToNotificationId) {
+        String currentUserId = (String) request.getAttribute("currentUserId");
+        notificationService.markAllRead(currentUserId, upToNotificationId);
+        return ResponseEntity.ok(notificationService.getUnreadCount(currentUserId));
+    }
+
+    @Operation(summary = "알림 일괄 읽음 처리",
+            description = "전달한 알림 ID 목록(최대 500개)을 한 번에 읽음 처리하고, 처리 후 읽지 않은 알림 개수를 반환한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "알림 일괄 읽음 처리 성공",
+                    content = @Content(schema = @Schema(implementation = UnreadCountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "알림 ID 목록이 비었거나 500개 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "로그인 후 이용가능한 메뉴",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @RequireLogin
+    @PutMapping(value = "/read")
+    public ResponseEntity<UnreadCountResponse> markRead(
+            HttpServletRequest request,
+            @RequestBody NotificationReadRequest readRequest) {
+        String currentUserId = (String) request.getAttribute("currentUserId");
+        notificationService.markRead(currentUserId, readRequest.getNotificationIds());
+        return ResponseEntity.ok(notificationService.getUnreadCount(currentUserId));
+    }
+
+    @Operation(summary = "읽지 않은 알림 개수 조회", description = "사용자의 읽지 않은 알림/채팅 알림 개수를 조회한다. 이후 개수가 바뀌면 STOMP /topic/notify.{userId} 로 같은 형식이 전송된다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "읽지 않은 알림 개수 조회 성공",
                     content = @Content(schema = @Schema(implementation = UnreadCountResponse.class)))
@@ -50,6 +50,31 @@ public class PostController {
         return ResponseEntity.ok().body(posts);
     }
 
+    @Operation(summary = "게시글 목록 커서 조회", description = "게시판의 게시글 목록을 최신순으로 커서 기반 조회한다. 응답의 nextCursor를 cursor 파라미터로 넘기면 다음 목록을 조회한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PostSliceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "내부 서버 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<PostSliceResponse> getPostsByBoardCursor(
+            @Parameter(name = "board_id", description = "게시판 ID", required = true)
+            @RequestParam("board_id") String boardId,
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @Parameter(name = "include_total", description = "전체 게시글 수 포함 여부", example = "false")
+            @RequestParam(value = "include_total", defaultValue = "false") boolean includeTotal,
+            HttpServletRequest httpRequest) {
+        String userId = jwtProvider.resolveUserId(httpRequest);
+        PostSliceResponse posts = postService.getPostsByBoardCursor(boardId, userId, cursor, size, includeTotal);
+        return ResponseEntity.ok().body(posts);
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "postId를 입력받아 게시글 상세 정보를 조회한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 상세 조회 성공",
@@ -141,6 +166,8 @@ public class PostController {
     @Operation(summary = "게시글 조회수 증가", description = "게시글의 조회수를 1 증가시킨다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 조회수 증가 성공"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "내부 서버 오류",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
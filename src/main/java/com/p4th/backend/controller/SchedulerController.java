@@ -1,9 +1,20 @@
 package com.p4th.backend.controller;
 
-import com.p4th.backend.domain.Post;
 import com.p4th.backend.domain.PostHistoryLog;
 import com.p4th.backend.mapper.PostHistoryLogMapper;
 import com.p4th.backend.mapper.PostMapper;
+import com.p4th.backend.service.BoardTreeCache;
+import com.p4th.backend.service.HomeResponseCache;
+import com.p4th.backend.service.IpBlacklistCache;
+import com.p4th.backend.service.NotificationRetentionService;
+import com.p4th.backend.service.PopularityCounterService;
+import com.p4th.backend.service.PostSearchIndex;
+import com.p4th.backend.service.PostService;
+import com.p4th.backend.service.PostViewRecorder;
+import com.p4th.backend.service.SearchResultCache;
+import com.p4th.backend.service.SearchSuggestService;
+import com.p4th.backend.service.UserAuthStatusCache;
+import com.p4th.backend.service.ViewCountAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -12,6 +23,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.p4th.backend.util.ULIDUtil;
@@ -22,41 +34,50 @@ public class SchedulerController {
 
     private final PostMapper postMapper;
     private final PostHistoryLogMapper postHistoryLogMapper;
-
-    // 기간 내 집계된 조회수와 댓글 수를 기준으로 인기 점수 계산
-    private float calculatePopularity(int viewCount, int commentCount) {
-        return viewCount * 0.4f + commentCount * 0.2f;
-    }
+    private final PostService postService;
+    private final PopularityCounterService popularityCounterService;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final PostViewRecorder postViewRecorder;
+    private final PostSearchIndex postSearchIndex;
+    private final SearchResultCache searchResultCache;
+    private final SearchSuggestService searchSuggestService;
+    private final HomeResponseCache homeResponseCache;
+    private final BoardTreeCache boardTreeCache;
+    private final UserAuthStatusCache userAuthStatusCache;
+    private final IpBlacklistCache ipBlacklistCache;
+    private final NotificationRetentionService notificationRetentionService;
+
+    private static final int SUMMARY_BACKFILL_BATCH_SIZE = 100;
+    private static final int POPULAR_POST_LIMIT = 20;
 
     private void processPopularity(String periodType, LocalDateTime periodStart, LocalDateTime periodBoundary) {
-        List<Post> posts = postMapper.getAllPosts();
-
-        // 모든 게시글에 대해 해당 기간 내 집계 수치를 가져와 인기 점수를 계산
-        List<PostPopularity> popularityList = posts.stream().map(post -> {
-            int periodViewCount = postMapper.getViewCountWithinPeriod(post.getPostId(), periodStart, periodBoundary);
-            int periodCommentCount = postMapper.getCommentCountWithinPeriod(post.getPostId(), periodStart, periodBoundary);
-            float popularityScore = calculatePopularity(periodViewCount, periodCommentCount);
-            return new PostPopularity(post, popularityScore, periodViewCount, periodCommentCount);
-        }).toList();
-
-        // 인기 점수 내림차순 정렬 후 상위 20개 선택
-        List<PostPopularity> topPosts = popularityList.stream()
-                .sorted((pp1, pp2) -> Float.compare(pp2.popularityScore, pp1.popularityScore))
-                .limit(20)
-                .toList();
-
-        // 인기 게시글 로그 저장
-        for (PostPopularity pp : topPosts) {
-            PostHistoryLog log = new PostHistoryLog();
+        // 기간 내 조회수/댓글 수를 게시글별로 한 번에 집계하고 DB에서 상위 20개만 가져옴
+        List<PostHistoryLog> topPosts = new ArrayList<>(
+                postHistoryLogMapper.aggregateTopPopularity(periodStart, periodBoundary, POPULAR_POST_LIMIT));
+
+        // 기간 내 활동이 있는 게시글이 20개 미만이면 최신 게시글(점수 0)로 채움
+        if (topPosts.size() < POPULAR_POST_LIMIT) {
+            List<String> rankedPostIds = topPosts.stream().map(PostHistoryLog::getPostId).toList();
+            for (String postId : postHistoryLogMapper.findLatestPostIdsExcluding(rankedPostIds, POPULAR_POST_LIMIT - topPosts.size())) {
+                PostHistoryLog log = new PostHistoryLog();
+                log.setPostId(postId);
+                topPosts.add(log);
+            }
+        }
+        if (topPosts.isEmpty()) {
+            return;
+        }
+
+        // 인기 게시글 로그 일괄 저장
+        for (PostHistoryLog log : topPosts) {
             log.setHistoryId(ULIDUtil.getULID());
-            log.setPostId(pp.post.getPostId());
             log.setPeriodType(periodType);
             log.setPeriodStartDate(periodStart.withNano(0));
-            log.setViewCount(pp.periodViewCount);
-            log.setCommentCount(pp.periodCommentCount);
-            log.setPopularityScore(pp.popularityScore);
-            postHistoryLogMapper.insertHistoryLog(log);
+            log.setPopularityScore(PopularityCounterService.calculatePopularity(log.getViewCount(), log.getCommentCount()));
         }
+        postHistoryLogMapper.insertHistoryLogs(topPosts);
+        // 새 집계 결과로 메인 화면 인기 게시글 캐시 갱신
+        homeResponseCache.invalidate(HomeResponseCache.popularPostsKey(periodType));
     }
 
     // HOURLY: 매 시간 정각에 실행 (지난 1시간 기준)
@@ -95,7 +116,17 @@ public class SchedulerController {
         processPopularity("MONTHLY", monthStart, nextMonthStart);
     }
 
-    // 생성된 지 2달 이상된 post_view 데이터를 삭제
+    // 게시판별 게시글 수/최근 게시글 수 보정: 매 시간 30분 (최근 게시글 수는 기간이 지난 게시글을 여기서 제외)
+    @Scheduled(cron = "0 30 * * * *")
+    public void reconcileBoardPostCounts() {
+        int corrected = postMapper.reconcileBoardPostCounts(LocalDateTime.now().minusDays(PostService.RECENT_POST_DAYS));
+        if (corrected > 0) {
+            homeResponseCache.invalidate(HomeResponseCache.POPULAR_BOARDS);
+        }
+    }
+
+    // 인기 게시글 집계 기간(최대 한 달)이 지난 post_view 데이터를 삭제
+    // (최근 본 게시글은 recent_post_view에서 사용자별 개수로 관리되므로 여기서 정리하지 않음)
     @Scheduled(cron = "0 0 0 * * *")
     public void cleanupPostViews() {
         // 현재 시각에서 2달 이전의 시각 계산
@@ -104,18 +135,62 @@ public class SchedulerController {
         postMapper.deletePostViewsOlderThan(cutoff);
     }
 
-    // 내부 클래스: 게시글과 해당 기간의 집계 결과 보관
-    private static class PostPopularity {
-        Post post;
-        float popularityScore;
-        int periodViewCount;
-        int periodCommentCount;
+    // 보관 기간이 지난 알림을 보관 테이블로 이동: 매일 03:30 (타입별 기간은 p4th.notification-retention.read-days)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void archiveNotifications() {
+        notificationRetentionService.archiveExpired();
+    }
+
+    // 목록용 요약 정보가 없는 게시글(요약 컬럼 추가 이전 데이터)을 10분마다 채움
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000)
+    public void backfillPostSummaries() {
+        int processed;
+        do {
+            processed = postService.backfillContentSummaries(SUMMARY_BACKFILL_BATCH_SIZE);
+        } while (processed == SUMMARY_BACKFILL_BATCH_SIZE);
+    }
 
-        public PostPopularity(Post post, float popularityScore, int periodViewCount, int periodCommentCount) {
-            this.post = post;
-            this.popularityScore = popularityScore;
-            this.periodViewCount = periodViewCount;
-            this.periodCommentCount = periodCommentCount;
-        }
+    // 실시간 인기 집계 버킷을 1분마다 DB에 체크포인트 (재시작 시 복원용)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void checkpointPopularityCounters() {
+        popularityCounterService.checkpoint();
+    }
+
+    // 메모리에 누적된 게시글 조회수 증가분을 5초마다 일괄 반영
+    @Scheduled(fixedDelay = 5000)
+    public void flushViewCounts() {
+        viewCountAccumulator.flush();
+    }
+
+    // 큐에 쌓인 최근 본 게시글 기록을 1초마다 일괄 저장
+    @Scheduled(fixedDelay = 1000)
+    public void drainPostViews() {
+        postViewRecorder.drain();
+    }
+
+    // 검색 색인 전체 재구성: 기동 직후 1회, 이후 6시간마다 (닉네임 변경 등 개별 갱신에서 빠진 변경 반영)
+    @Scheduled(fixedDelay = 21600000, initialDelay = 0)
+    public void rebuildSearchIndex() {
+        postSearchIndex.rebuild();
+        searchResultCache.invalidateAll();
+    }
+
+    // 계정 상태 캐시와 차단 IP 목록을 30초마다 갱신 (요청 경로에서 만료로 인한 DB 조회가 생기지 않도록)
+    @Scheduled(fixedDelay = 30000)
+    public void refreshAuthCaches() {
+        userAuthStatusCache.refresh();
+        ipBlacklistCache.reload();
+    }
+
+    // 카테고리/게시판 트리 캐시 재적재: 10분마다 (다른 서버 인스턴스에서 변경된 내용 반영)
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reloadBoardTree() {
+        boardTreeCache.reload();
+    }
+
+    // 검색어 자동완성 전체 재구성: 기동 직후 1회, 이후 6시간마다
+    @Scheduled(fixedDelay = 21600000, initialDelay = 0)
+    public void rebuildSearchSuggestions() {
+        searchSuggestService.rebuild();
     }
 }
@@ -2,8 +2,10 @@ package com.p4th.backend.controller;
 
 import com.p4th.backend.dto.response.ErrorResponse;
 import com.p4th.backend.dto.response.search.SearchResponse;
+import com.p4th.backend.dto.response.search.SuggestResponse;
 import com.p4th.backend.security.JwtProvider;
 import com.p4th.backend.service.SearchService;
+import com.p4th.backend.service.SearchSuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SearchSuggestService searchSuggestService;
     private final JwtProvider jwtProvider;
 
     @Operation(
@@ -52,4 +55,25 @@ public class SearchController {
         Page<SearchResponse.SearchResult> response = searchService.search(boardId, userId, query, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 게시글 제목과 작성자 닉네임을 각각 최대 size개 반환한다." +
+                    "\n 제목은 같은 제목의 게시글이 많은 순, 닉네임은 작성 게시글이 많은 순으로 정렬된다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "자동완성 성공",
+                    content = @Content(schema = @Schema(implementation = SuggestResponse.class))),
+            @ApiResponse(responseCode = "500", description = "내부 서버 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestResponse> suggest(
+            @Parameter(name = "query", description = "입력 중인 검색어", required = true)
+            @RequestParam("query") String query,
+            @Parameter(name = "size", description = "제목/닉네임 각각의 최대 개수 (기본 5, 최대 10)")
+            @RequestParam(value = "size", defaultValue = "5") int size) {
+        int limit = Math.max(1, Math.min(size, 10));
+        return ResponseEntity.ok(searchSuggestService.suggest(query, limit));
+    }
 }
@@ -23,6 +23,11 @@ public class Board {
     private int boardLevel;
     private int sortOrder;
     private int recommendYn;
+    // 게시판별 게시글 수 / 최근 7일(PostService.RECENT_POST_DAYS) 게시글 수 (게시글 등록/삭제 시 갱신, 스케줄러에서 보정)
+    @Column(insertable = false, updatable = false)
+    private int postCount;
+    @Column(insertable = false, updatable = false)
+    private int recentPostCount;
     private String createdBy;
     private LocalDateTime createdAt;
     private String updatedBy;
@@ -0,0 +1,25 @@
+package com.p4th.backend.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 회원 대상 알림 (공지 등). 회원 수와 무관하게 한 건만 저장하고,
+ * 회원별 읽음 상태는 user_notification_state(읽음 기준 알림 ID)와 broadcast_notification_read(기준 이후 개별 읽음)로 관리한다.
+ * 알림 ID는 생성 순서대로 증가하는 ULID이므로 기준 ID 이하인 알림은 모두 읽은 것으로 본다.
+ * 작성자 본인과 알림 생성 이후 가입한 회원에게는 노출되지 않는다.
+ */
+@Getter
+@Setter
+public class BroadcastNotification {
+    private String broadcastId;
+    private String postId;
+    private String authorId;
+    private NotificationType type;
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+    private String createdBy;
+}
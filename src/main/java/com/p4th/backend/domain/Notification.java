@@ -25,4 +25,6 @@ public class Notification {
     private LocalDateTime readAt;
     private LocalDateTime createdAt;
     private String createdBy;
+    @Transient
+    private String imageUrl;  // 목록 조회 시 게시글 썸네일 (저장하지 않음)
 }
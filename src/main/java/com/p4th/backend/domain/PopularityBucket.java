@@ -0,0 +1,16 @@
+package com.p4th.backend.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class PopularityBucket {
+    private String bucketUnit;   // MINUTE, HOUR
+    private LocalDateTime bucketStart;
+    private String postId;
+    private long viewCount;
+    private long commentCount;
+}
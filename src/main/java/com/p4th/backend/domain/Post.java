@@ -22,7 +22,13 @@ public class Post {
     @Transient
     private String nickname;
     private String title;
+    // 본문 HTML은 상세 조회에서만 사용하므로 목록 조회 시에는 로딩하지 않는다.
+    @Basic(fetch = FetchType.LAZY)
     private String content;
+    // 목록용 요약 정보 (등록/수정 시 미리 계산하여 저장)
+    private String contentSummary;
+    private String thumbnailUrl;
+    private int imageCount;
     private int pinnedYn;
     @Enumerated(EnumType.STRING)
     private PostStatus status;  // NORMAL, REPORTED
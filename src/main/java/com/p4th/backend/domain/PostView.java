@@ -0,0 +1,14 @@
+package com.p4th.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class PostView {
+    private String userId;
+    private String postId;
+    private LocalDateTime viewedAt;
+}
@@ -0,0 +1,13 @@
+package com.p4th.backend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "알림 일괄 읽음 처리 요청 DTO")
+public class NotificationReadRequest {
+    @Schema(description = "읽음 처리할 알림 ID 목록 (최대 500개)", example = "[\"01JKQ90E6N6FP7YRWCVVC52KW0\", \"01JKQ90E6N6FP7YRWCVVC52KW1\"]")
+    private List<String> notificationIds;
+}
@@ -0,0 +1,22 @@
+package com.p4th.backend.dto.response;
+
+import com.p4th.backend.domain.Banner;
+import com.p4th.backend.dto.response.board.PopularBoardResponse;
+import com.p4th.backend.dto.response.post.PopularPostResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "메인 화면 응답 DTO")
+public class HomeResponse {
+    @Schema(description = "노출 중인 배너 목록 (노출 순서대로)")
+    private List<Banner> banners;
+
+    @Schema(description = "인기 게시판 목록 (상위 7개)")
+    private List<PopularBoardResponse> popularBoards;
+
+    @Schema(description = "요청한 기간의 인기 게시글 목록 (최대 20개)")
+    private List<PopularPostResponse> popularPosts;
+}
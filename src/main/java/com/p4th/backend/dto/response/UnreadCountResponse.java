@@ -4,8 +4,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
 @Data
-@Schema(description = "읽지 않은 알림 개수 응답 DTO")
+@Schema(description = "읽지 않은 알림 개수 응답 DTO (개수가 바뀌면 /topic/notify.{userId} 로도 전송)")
 public class UnreadCountResponse {
     @Schema(description = "읽지 않은 알림 개수", example = "5")
     private int unreadCount;
+
+    @Schema(description = "읽지 않은 채팅 알림 개수", example = "2")
+    private int chatUnreadCount;
 }
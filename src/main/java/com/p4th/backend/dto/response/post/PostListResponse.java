@@ -3,7 +3,6 @@ package com.p4th.backend.dto.response.post;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.p4th.backend.domain.Post;
 import com.p4th.backend.domain.PostStatus;
-import com.p4th.backend.util.HtmlImageUtils;
 import com.p4th.backend.util.RelativeTimeFormatter;
 import com.p4th.backend.util.HtmlContentUtils;
 import lombok.Data;
@@ -52,12 +51,10 @@ public class PostListResponse {
         dto.viewCount = post.getViewCount();
         dto.commentCount = post.getCommentCount();
 
-        // HTML 태그 제거 후 순수 텍스트 추출 (최대 50자)
-        dto.setContent(HtmlContentUtils.extractPlainText(post.getContent(), 100));
-
-        // HTML 내 이미지 태그 처리
-        dto.imageCount = HtmlImageUtils.countInlineImages(post.getContent());
-        dto.imageUrl = HtmlImageUtils.extractFirstImageUrl(post.getContent());
+        // 등록/수정 시 미리 계산해 둔 요약 정보 사용 (본문 HTML은 조회하지 않음)
+        dto.setContent(post.getContentSummary());
+        dto.imageCount = post.getImageCount();
+        dto.imageUrl = post.getThumbnailUrl();
 
         if (post.getCreatedAt() != null) {
             dto.createdAt = RelativeTimeFormatter.formatRelativeTime(post.getCreatedAt());
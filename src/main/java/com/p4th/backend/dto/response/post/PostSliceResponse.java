@@ -0,0 +1,24 @@
+package com.p4th.backend.dto.response.post;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "게시글 목록 커서 페이지 응답 DTO")
+public class PostSliceResponse {
+    @Schema(description = "게시글 목록")
+    private List<PostListResponse> content;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wMy0wMVQxMjozNDo1Nnww")
+    private String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "전체 게시글 수 (include_total=true인 경우에만 포함)", example = "1234")
+    private Long totalElements;
+}
@@ -0,0 +1,16 @@
+package com.p4th.backend.dto.response.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "검색어 자동완성 응답 DTO")
+public class SuggestResponse {
+    @Schema(description = "게시글 제목 완성어 (같은 제목의 게시글이 많은 순)")
+    private List<String> titles;
+
+    @Schema(description = "작성자 닉네임 완성어 (작성 게시글이 많은 순)")
+    private List<String> nicknames;
+}
@@ -4,7 +4,6 @@ import com.p4th.backend.util.HtmlContentUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import com.p4th.backend.domain.Post;
-import com.p4th.backend.util.HtmlImageUtils;
 import com.p4th.backend.util.RelativeTimeFormatter;
 
 import java.util.List;
@@ -68,8 +67,8 @@ public class UserCommentPostResponse {
         }
         dto.setViewCount(post.getViewCount());
         dto.setCommentCount(post.getCommentCount());
-        dto.setImageUrl(HtmlImageUtils.extractFirstImageUrl(post.getContent()));
-        dto.setImageCount(HtmlImageUtils.countInlineImages(post.getContent()));
+        dto.setImageUrl(post.getThumbnailUrl());
+        dto.setImageCount(post.getImageCount());
         dto.setCreatedAt(RelativeTimeFormatter.formatRelativeTime(post.getCreatedAt()));
         return dto;
     }
@@ -2,8 +2,8 @@ package com.p4th.backend.interceptor;
 
 import com.p4th.backend.common.exception.CustomException;
 import com.p4th.backend.common.exception.ErrorCode;
-import com.p4th.backend.mapper.AdminUserMapper;
 import com.p4th.backend.security.JwtProvider;
+import com.p4th.backend.service.UserAuthStatusCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +14,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class AdminAuthorizationInterceptor implements HandlerInterceptor {
 
     private final JwtProvider jwtProvider;
-    private final AdminUserMapper adminUserMapper;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
@@ -25,8 +25,8 @@ public class AdminAuthorizationInterceptor implements HandlerInterceptor {
         if (currentUserId == null) {
             throw new CustomException(ErrorCode.LOGIN_REQUIRED);
         }
-        Integer role = adminUserMapper.findAdminRoleByUserId(currentUserId);
-        if (role == null || role != 1) {
+        UserAuthStatusCache.UserAuthStatus status = userAuthStatusCache.get(currentUserId);
+        if (status == null || !status.isAdmin()) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS, "관리자 권한이 없습니다.");
         }
         return true;
@@ -13,7 +13,5 @@ public interface AdminUserMapper {
                          @Param("userId") String userId,
                          @Param("adminRole") int adminRole);
 
-    Integer findAdminRoleByUserId(@Param("userId") String userId);
-
     long countUserById(@Param("userId") String userId);
 }
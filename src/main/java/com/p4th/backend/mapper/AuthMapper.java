@@ -18,4 +18,6 @@ public interface AuthMapper {
     void updateUserNickname(User user);
     void deleteUser(@Param("userId") String userId);
     List<String> selectAllUserIds();
+    List<String> selectActiveNicknames();
+    List<User> selectAuthStatusesByUserIds(@Param("userIds") List<String> userIds);
 }
@@ -3,11 +3,13 @@ package com.p4th.backend.mapper;
 import com.p4th.backend.domain.Comment;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface CommentMapper {
-    List<Comment> getCommentsByPost(@Param("postId") String postId, @Param("userId") String userId);
+    List<Comment> getCommentsByPost(@Param("postId") String postId,
+                                    @Param("blockedUserIds") Collection<String> blockedUserIds);
     int insertComment(Comment comment);
     int updateComment(@Param("commentId") String commentId, @Param("secretYn") Boolean secretYn
             , @Param("content") String content, @Param("userId") String userId);
@@ -3,10 +3,13 @@ package com.p4th.backend.mapper;
 import com.p4th.backend.domain.IpBlacklist;
 import org.apache.ibatis.annotations.Mapper;
 
+import java.util.List;
+
 @Mapper
 public interface IpBlacklistMapper {
     IpBlacklist findByIpAddress(String ipAddress);
     void updateIpBlacklist(IpBlacklist ipBlacklist);
     void insertIpBlacklist(IpBlacklist ipBlacklist);
     void deleteByIpAddress(String ipAddress);
+    List<String> findBlockedIpAddresses();
 }
@@ -11,6 +11,7 @@ import java.util.List;
 @Mapper
 public interface MenuMapper {
     List<Comment> getCommentsByUser(@Param("userId") String userId);
-    List<Category> getAllCategories();
-    List<Board> getBoardsByCategory(@Param("categoryId") String categoryId);
+    // 카테고리/게시판 트리 캐시 적재용 (노출 여부와 무관하게 전체 조회)
+    List<Category> findAllCategories();
+    List<Board> findAllBoards();
 }
@@ -1,14 +1,50 @@
 package com.p4th.backend.mapper;
 
+import com.p4th.backend.domain.BroadcastNotification;
 import com.p4th.backend.domain.Notification;
+import com.p4th.backend.domain.NotificationType;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface NotificationMapper {
     List<Notification> getNotificationsByUserId(@Param("userId") String userId);
-    int updateNotificationRead(@Param("notificationId") String notificationId);
+    int updateNotificationRead(@Param("userId") String userId, @Param("notificationId") String notificationId);
     int countUnreadNotifications(@Param("userId") String userId);
+    boolean existsNotification(@Param("userId") String userId, @Param("notificationId") String notificationId);
+    // 일괄 읽음 처리 (upToNotificationId 가 null이면 전체)
+    int markNotificationsReadUpTo(@Param("userId") String userId, @Param("upToNotificationId") String upToNotificationId);
+    int markNotificationsRead(@Param("userId") String userId, @Param("notificationIds") List<String> notificationIds);
     int insertNotification(Notification notification);
+
+    // 전체 회원 대상 알림 (공지)
+    int insertBroadcastNotification(BroadcastNotification broadcastNotification);
+    List<Notification> findNotificationsWithBroadcasts(@Param("userId") String userId,
+                                                      @Param("offset") long offset,
+                                                      @Param("limit") int limit);
+    long countNotificationsWithBroadcasts(@Param("userId") String userId);
+    int countUnreadBroadcasts(@Param("userId") String userId);
+    boolean existsBroadcastNotification(@Param("broadcastId") String broadcastId);
+    String findBroadcastReadUpTo(@Param("userId") String userId, @Param("upToNotificationId") String upToNotificationId);
+    int countUnreadBroadcastsUpTo(@Param("userId") String userId, @Param("readUpTo") String readUpTo);
+    int insertBroadcastRead(@Param("broadcastId") String broadcastId, @Param("userId") String userId);
+    int insertBroadcastReads(@Param("userId") String userId, @Param("broadcastIds") List<String> broadcastIds);
+    int advanceBroadcastWatermark(@Param("userId") String userId);
+    int advanceBroadcastWatermarkTo(@Param("userId") String userId, @Param("readUpTo") String readUpTo);
+    int deleteBroadcastReadsBelowWatermark(@Param("userId") String userId);
+
+    // 보관 기간이 지난 알림 보관 (NotificationRetentionService)
+    List<String> findArchivableNotificationIds(@Param("type") NotificationType type,
+                                               @Param("cutoff") LocalDateTime cutoff,
+                                               @Param("limit") int limit);
+    int archiveNotifications(@Param("notificationIds") List<String> notificationIds);
+    int deleteNotifications(@Param("notificationIds") List<String> notificationIds);
+    List<String> findArchivableBroadcastIds(@Param("type") NotificationType type,
+                                            @Param("cutoff") LocalDateTime cutoff,
+                                            @Param("limit") int limit);
+    int archiveBroadcastNotifications(@Param("broadcastIds") List<String> broadcastIds);
+    int deleteBroadcastReads(@Param("broadcastIds") List<String> broadcastIds);
+    int deleteBroadcastNotifications(@Param("broadcastIds") List<String> broadcastIds);
 }
@@ -0,0 +1,20 @@
+package com.p4th.backend.mapper;
+
+import com.p4th.backend.domain.PopularityBucket;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface PopularityBucketMapper {
+    // 실시간 인기 집계 버킷 체크포인트 저장 (이미 있으면 증가분을 더함)
+    void upsertBuckets(@Param("buckets") List<PopularityBucket> buckets);
+
+    List<PopularityBucket> findBucketsSince(@Param("bucketUnit") String bucketUnit,
+                                            @Param("since") LocalDateTime since);
+
+    int deleteBucketsBefore(@Param("bucketUnit") String bucketUnit,
+                            @Param("cutoff") LocalDateTime cutoff);
+}
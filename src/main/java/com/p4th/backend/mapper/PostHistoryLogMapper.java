@@ -3,11 +3,29 @@ package com.p4th.backend.mapper;
 import com.p4th.backend.dto.response.post.PopularPostResponse;
 import com.p4th.backend.domain.PostHistoryLog;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 @Mapper
 public interface PostHistoryLogMapper {
-    void insertHistoryLog(PostHistoryLog log);
+    // 인기 게시글 로그 일괄 저장 (multi-row INSERT)
+    void insertHistoryLogs(@Param("logs") List<PostHistoryLog> logs);
     List<PopularPostResponse> getPopularPostsByPeriod(Map<String, Object> params);
+
+    // 실시간 인기 순위에 포함된 게시글 조회 (차단 사용자 게시글 제외)
+    List<PopularPostResponse> getPopularPostsByIds(@Param("postIds") List<String> postIds,
+                                                   @Param("blockedUserIds") Collection<String> blockedUserIds);
+
+    // 기간 내 조회수/댓글 수를 게시글별로 한 번에 집계하여 인기 점수 상위 limit개 조회
+    List<PostHistoryLog> aggregateTopPopularity(@Param("startDate") LocalDateTime startDate,
+                                                @Param("endDate") LocalDateTime endDate,
+                                                @Param("limit") int limit);
+
+    // 집계 대상이 limit개보다 적을 때 채워 넣을 최신 게시글 ID 조회
+    List<String> findLatestPostIdsExcluding(@Param("excludePostIds") List<String> excludePostIds,
+                                            @Param("limit") int limit);
 }
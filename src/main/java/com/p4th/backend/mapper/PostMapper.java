@@ -2,11 +2,14 @@ package com.p4th.backend.mapper;
 
 import com.p4th.backend.domain.Board;
 import com.p4th.backend.domain.Post;
+import com.p4th.backend.domain.PostView;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface PostMapper {
@@ -16,36 +19,48 @@ public interface PostMapper {
 
     int updatePost(Post post);
 
+    // 목록용 요약 정보가 없는 게시글 조회 (요약 정보 백필용)
+    List<Post> findPostsWithoutSummary(@Param("limit") int limit);
+
+    int updatePostSummary(Post post);
+
+    // 검색 색인 전체 재구성용: post_id 순으로 afterPostId 다음 게시글을 limit개 조회
+    List<Post> findPostsForSearchIndex(@Param("afterPostId") String afterPostId, @Param("limit") int limit);
+
+    // 자동완성 전체 재구성용: post_id 순으로 afterPostId 다음 게시글의 제목/작성자 닉네임을 limit개 조회
+    List<Post> findPostsForSuggest(@Param("afterPostId") String afterPostId, @Param("limit") int limit);
+
     //실제 데이터 삭제
     int physicalDeletePost(@Param("postId") String postId);
 
-    List<Post> getAllPosts();
+    // 게시판별 게시글 수 증감 (게시글 등록/삭제 트랜잭션 안에서 호출)
+    int adjustBoardPostCount(@Param("boardId") String boardId, @Param("delta") int delta, @Param("recentDelta") int recentDelta);
 
-    int incrementViewCount(String postId);
+    // 게시판별 게시글 수/최근 게시글 수를 post 테이블 기준으로 다시 계산, 보정된 게시판 수 반환
+    int reconcileBoardPostCounts(@Param("recentSince") LocalDateTime recentSince);
 
-    void incrementCommentCount(String postId);
+    boolean existsPost(@Param("postId") String postId);
 
-    List<Post> findRecentPostsByUserId(@Param("userId") String userId);
+    // 게시글별 누적 조회수 증가분을 한 번의 UPDATE ... CASE로 반영
+    int addViewCounts(@Param("deltas") Map<String, Long> deltas);
 
-    int insertPostView(@Param("userId") String userId, @Param("postId") String postId);
+    void incrementCommentCount(String postId);
 
-    Board getBoardWithCategory(@Param("boardId") String boardId);
+    List<Post> findRecentPostsByUserId(@Param("userId") String userId,
+                                       @Param("blockedUserIds") Collection<String> blockedUserIds);
 
-    int updateCommentCount(@Param("postId") String postId, @Param("count") int count);
+    // 최근 본 게시글 기록 일괄 저장 (multi-row INSERT, 이미 있으면 조회 시각만 갱신)
+    int insertPostViews(@Param("views") List<PostView> views);
 
-    List<String> getDistinctUserIdsFromPostView();
+    // 사용자별 최근 본 게시글 저장 (이미 있으면 조회 시각만 갱신)
+    int upsertRecentPostViews(@Param("views") List<PostView> views);
 
-    LocalDateTime get16thLatestViewedAt(@Param("userId") String userId);
+    // 사용자별 최근 본 게시글을 최신 keep개만 남기고 삭제
+    int trimRecentPostViews(@Param("userIds") Collection<String> userIds, @Param("keep") int keep);
 
-    void deletePostViewsOlderThan(@Param("cutoff") LocalDateTime cutoff);
+    Board getBoardWithCategory(@Param("boardId") String boardId);
 
-    // 기간 내 게시글 조회수 집계 (post_view 테이블 기준)
-    Integer getViewCountWithinPeriod(@Param("postId") String postId,
-                                     @Param("startDate") LocalDateTime startDate,
-                                     @Param("endDate") LocalDateTime endDate);
+    int updateCommentCount(@Param("postId") String postId, @Param("count") int count);
 
-    // 기간 내 댓글 수 집계 (comment 테이블 기준)
-    Integer getCommentCountWithinPeriod(@Param("postId") String postId,
-                                        @Param("startDate") LocalDateTime startDate,
-                                        @Param("endDate") LocalDateTime endDate);
+    void deletePostViewsOlderThan(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -1,10 +0,0 @@
-package com.p4th.backend.repository;
-
-import com.p4th.backend.domain.Notification;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface NotificationRepository extends JpaRepository<Notification, String> {
-    Page<Notification> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
-}
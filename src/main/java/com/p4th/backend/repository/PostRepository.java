@@ -4,22 +4,48 @@ import com.p4th.backend.domain.Post;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface PostRepository extends JpaRepository<Post, String> {
     Page<Post> findByBoardId(String boardId, Pageable pageable);
 
     Page<Post> findByUserId(String userId, Pageable pageable);
 
-    // 로그인한 사용자의 차단 조건을 적용한 게시글 조회
+    // 로그인한 사용자의 차단 조건을 적용한 게시글 조회 (차단 대상 ID는 BlockedUsersCache에서 전달)
+    Page<Post> findByBoardIdAndUserIdNotIn(String boardId, Collection<String> blockedUserIds, Pageable pageable);
+
+    // 커서 페이지네이션: 커서(created_at, post_id) 이후 게시글, (created_at, post_id) 내림차순, COUNT 쿼리 없음
     @Query("select p from Post p " +
             "where p.boardId = :boardId " +
-            "and (:userId is null or p.userId not in (" +
-            "    select b.targetUserId from Block b where b.userId = :userId))")
-    Page<Post> findByBoardIdExcludingBlocked(@Param("boardId") String boardId,
-                                             @Param("userId") String userId,
-                                             Pageable pageable);
+            "and (p.createdAt < :cursorCreatedAt " +
+            "     or (p.createdAt = :cursorCreatedAt and p.postId < :cursorPostId)) " +
+            "order by p.createdAt desc, p.postId desc")
+    Slice<Post> findSliceByBoardIdAfter(@Param("boardId") String boardId,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorPostId") String cursorPostId,
+                                        Pageable pageable);
+
+    // 커서 페이지네이션 + 차단 조건
+    @Query("select p from Post p " +
+            "where p.boardId = :boardId " +
+            "and p.userId not in :blockedUserIds " +
+            "and (p.createdAt < :cursorCreatedAt " +
+            "     or (p.createdAt = :cursorCreatedAt and p.postId < :cursorPostId)) " +
+            "order by p.createdAt desc, p.postId desc")
+    Slice<Post> findSliceByBoardIdAfterExcluding(@Param("boardId") String boardId,
+                                                 @Param("blockedUserIds") Collection<String> blockedUserIds,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorPostId") String cursorPostId,
+                                                 Pageable pageable);
+
+    long countByBoardId(String boardId);
+
+    long countByBoardIdAndUserIdNotIn(String boardId, Collection<String> blockedUserIds);
 
     // 내가 작성한 댓글이 포함된 게시글을 조회
     @Query("SELECT p FROM Post p " +
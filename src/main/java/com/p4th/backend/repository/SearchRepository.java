@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+
 public interface SearchRepository extends JpaRepository<Post, String> {
 
     // 전체 검색: 제목, 내용, 그리고 작성자(회원) 닉네임으로 검색
@@ -25,4 +27,26 @@ public interface SearchRepository extends JpaRepository<Post, String> {
     Page<Post> searchPostsByBoard(@Param("boardId") String boardId,
                                   @Param("query") String query,
                                   Pageable pageable);
+
+    // 전체 검색 + 차단한 작성자의 게시글 제외
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.userId NOT IN :blockedUserIds " +
+            "  AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
+            "    OR LOWER(p.content) LIKE LOWER(CONCAT('%', :query, '%')) " +
+            "    OR LOWER(p.user.nickname) LIKE LOWER(CONCAT('%', :query, '%')))")
+    Page<Post> searchPostsExcluding(@Param("query") String query,
+                                    @Param("blockedUserIds") Collection<String> blockedUserIds,
+                                    Pageable pageable);
+
+    // 특정 게시판 내 검색 + 차단한 작성자의 게시글 제외
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.board.boardId = :boardId " +
+            "  AND p.userId NOT IN :blockedUserIds " +
+            "  AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
+            "    OR LOWER(p.content) LIKE LOWER(CONCAT('%', :query, '%')) " +
+            "    OR LOWER(p.user.nickname) LIKE LOWER(CONCAT('%', :query, '%')))")
+    Page<Post> searchPostsByBoardExcluding(@Param("boardId") String boardId,
+                                           @Param("query") String query,
+                                           @Param("blockedUserIds") Collection<String> blockedUserIds,
+                                           Pageable pageable);
 }
@@ -12,8 +12,13 @@ import com.p4th.backend.common.exception.CustomException;
 import javax.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -22,7 +27,15 @@ public class JwtProvider {
     @Value("${p4th.jwt.secret}")
     private String secretKey;
 
+    // 검증된 토큰 캐시 최대 크기
+    @Value("${p4th.jwt.token-cache-size:10000}")
+    private int tokenCacheSize;
+
     private Key hmacKey;
+    // 파서는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용
+    private JwtParser jwtParser;
+    // 토큰 해시 -> 검증된 사용자 ID와 만료 시각 (같은 토큰의 서명 검증/파싱을 반복하지 않음)
+    private Map<String, VerifiedToken> verifiedTokens;
 
     private static final long ACCESS_TOKEN_EXPIRE_MS = 5 * 60 * 1000;  // 5분
     private static final long REFRESH_TOKEN_EXPIRE_MS = 365L * 24 * 60 * 60 * 1000;  // 1년
@@ -30,6 +43,13 @@ public class JwtProvider {
     @PostConstruct
     public void init() {
         hmacKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(hmacKey).build();
+        verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > tokenCacheSize;
+            }
+        };
     }
 
     // 회원정보(User 객체)를 이용하여 Access Token 생성 (추가 클레임 포함)
@@ -68,7 +88,7 @@ public class JwtProvider {
     // JWT 토큰 유효성 검증 (예외 발생 시 로깅 추가)
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(hmacKey).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch(Exception e) {
 //            logger.error("JWT validation failed: {}", e.getMessage());
@@ -76,14 +96,27 @@ public class JwtProvider {
         }
     }
 
-    // JWT 토큰에서 사용자 ID 추출
+    // JWT 토큰에서 사용자 ID 추출 (이미 검증된 토큰은 만료 전까지 캐시에서 반환)
     public String getUserIdFromToken(String token) {
+        long now = System.currentTimeMillis();
+        String tokenHash = hash(token);
+        synchronized (verifiedTokens) {
+            VerifiedToken verified = verifiedTokens.get(tokenHash);
+            if (verified != null) {
+                if (verified.expiresAt() > now) {
+                    return verified.userId();
+                }
+                verifiedTokens.remove(tokenHash);
+            }
+        }
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(hmacKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                synchronized (verifiedTokens) {
+                    verifiedTokens.put(tokenHash, new VerifiedToken(claims.getSubject(), expiration.getTime()));
+                }
+            }
             return claims.getSubject();
         } catch (SecurityException | MalformedJwtException | ExpiredJwtException | UnsupportedJwtException |
                  IllegalArgumentException e) {
@@ -93,21 +126,41 @@ public class JwtProvider {
 
     // 추가: HttpServletRequest에서 Authorization 헤더를 분석하여 토큰에서 userId를 추출하는 메서드
     public String resolveUserId(HttpServletRequest request) {
+        return resolvePrincipal(request).userId();
+    }
+
+    // 요청당 한 번만 토큰을 해석하고 결과를 요청 속성에 저장 (같은 요청의 이후 호출은 저장된 값을 반환)
+    public RequestPrincipal resolvePrincipal(HttpServletRequest request) {
+        if (request.getAttribute(RequestPrincipal.ATTRIBUTE) instanceof RequestPrincipal principal) {
+            return principal;
+        }
+        RequestPrincipal principal;
         try {
             String header = request.getHeader("Authorization");
-            if (header != null) {
+            if (header == null) {
+                principal = RequestPrincipal.ANONYMOUS;
+            } else {
                 header = header.trim();
-                // "Bearer " 접두사가 있으면 제거하고 토큰 추출
-                if (header.startsWith("Bearer ")) {
-                    String token = header.substring("Bearer ".length()).trim();
-                    return getUserIdFromToken(token);
-                }
-                // 만약 접두사가 없다면, 그대로 토큰으로 간주
-                return getUserIdFromToken(header);
+                // "Bearer " 접두사가 있으면 제거하고 토큰 추출, 접두사가 없다면 그대로 토큰으로 간주
+                String token = header.startsWith("Bearer ") ? header.substring("Bearer ".length()).trim() : header;
+                principal = new RequestPrincipal(getUserIdFromToken(token));
             }
         } catch (Exception e) {
             throw new CustomException(ErrorCode.AUTHENTICATION_FAILED);
         }
-        return null;
+        request.setAttribute(RequestPrincipal.ATTRIBUTE, principal);
+        return principal;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String userId, long expiresAt) {
     }
 }
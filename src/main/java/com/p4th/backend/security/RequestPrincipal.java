@@ -0,0 +1,13 @@
+package com.p4th.backend.security;
+
+/**
+ * 요청 단위로 한 번만 해석한 인증 정보. JwtProvider.resolvePrincipal 에서 요청 속성에 저장하여
+ * LoginCheckAspect, AdminAuthorizationInterceptor, 컨트롤러가 같은 요청에서 토큰을 다시 검증하지 않도록 한다.
+ * @param userId 토큰의 사용자 ID (Authorization 헤더가 없으면 null)
+ */
+public record RequestPrincipal(String userId) {
+
+    public static final String ATTRIBUTE = RequestPrincipal.class.getName();
+
+    public static final RequestPrincipal ANONYMOUS = new RequestPrincipal(null);
+}
@@ -25,6 +25,7 @@ public class AdminBannerService {
     private final AdminBannerRepository adminBannerRepository;
     private final AdminBannerMapper adminBannerMapper;
     private final S3Service s3Service;
+    private final HomeResponseCache homeResponseCache;
 
     @Transactional(readOnly = true)
     public Page<BannerResponse> getBanners(String search, Pageable pageable) {
@@ -62,6 +63,7 @@ public class AdminBannerService {
         int maxSeq = adminBannerMapper.findMaxSeqForActiveBanners();
         banner.setSeq(maxSeq + 1);
         adminBannerMapper.insertBanner(banner);
+        homeResponseCache.invalidate(HomeResponseCache.BANNERS);
         return bannerId;
     }
 
@@ -88,6 +90,7 @@ public class AdminBannerService {
             throw new CustomException(ErrorCode.BANNER_NOT_FOUND);
         }
         adminBannerMapper.deleteBanner(bannerId);
+        homeResponseCache.invalidate(HomeResponseCache.BANNERS);
         s3Service.deleteByFileUrl(banner.getImageUrl());
     }
 
@@ -104,5 +107,6 @@ public class AdminBannerService {
         for (int i = 0; i < order.size(); i++) {
             adminBannerMapper.updateBannerSeq(order.get(i), userId, i + 1);
         }
+        homeResponseCache.invalidate(HomeResponseCache.BANNERS);
     }
 }
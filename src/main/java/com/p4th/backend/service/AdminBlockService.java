@@ -25,6 +25,8 @@ public class AdminBlockService {
 
     private final AdminUserRepository adminUserRepository;
     private final IpBlacklistMapper ipBlacklistMapper;
+    private final IpBlacklistCache ipBlacklistCache;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     @Transactional(readOnly = true)
     public Page<BlockUserResponse> getBlockList(boolean blockedOnly, String ip, String userId, String nickname, Pageable pageable) {
@@ -75,7 +77,9 @@ public class AdminBlockService {
                 newRecord.setCreatedBy(currentUserId);
                 ipBlacklistMapper.insertIpBlacklist(newRecord);
             }
+            ipBlacklistCache.invalidate();
         }
+        userAuthStatusCache.invalidate(userId);
     }
 
     @Transactional
@@ -94,12 +98,13 @@ public class AdminBlockService {
         String ip = user.getLastLoginIp();
         if (ip != null && !ip.isEmpty()) {
             ipBlacklistMapper.deleteByIpAddress(ip);
+            ipBlacklistCache.invalidate();
         }
+        userAuthStatusCache.invalidate(userId);
     }
 
     public boolean isIpBlocked(String ip) {
-        // 해당 IP의 차단 상태를 조회
-        return ipBlacklistMapper.findByIpAddress(ip) != null &&
-                "BLOCKED".equals(ipBlacklistMapper.findByIpAddress(ip).getStatus());
+        // 메모리에 적재된 차단 IP 집합에서 조회
+        return ipBlacklistCache.isBlocked(ip);
     }
 }
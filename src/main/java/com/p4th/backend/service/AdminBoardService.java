@@ -25,6 +25,8 @@ public class AdminBoardService {
 
     private final AdminBoardRepository boardRepository;
     private final AdminBoardMapper adminBoardMapper;
+    private final HomeResponseCache homeResponseCache;
+    private final BoardTreeCache boardTreeCache;
 
     @Transactional(readOnly = true)
     public Page<BoardResponse> getBoards(String boardId, String boardName, String categoryName, Pageable pageable) {
@@ -66,6 +68,8 @@ public class AdminBoardService {
         board.setCreatedBy(userId);
         board.setRecommendYn(0);
         adminBoardMapper.insertBoard(board);
+        homeResponseCache.invalidate(HomeResponseCache.POPULAR_BOARDS);
+        boardTreeCache.invalidate();
         return boardId;
     }
 
@@ -87,6 +91,9 @@ public class AdminBoardService {
         board.setBoardLevel(boardLevel);
         board.setUpdatedBy(userId);
         adminBoardMapper.updateBoard(board);
+        // 게시판명은 인기 게시판과 인기 게시글에 함께 노출됨
+        homeResponseCache.invalidateAll();
+        boardTreeCache.invalidate();
     }
 
     @Transactional(readOnly = true)
@@ -107,5 +114,7 @@ public class AdminBoardService {
             throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
         }
         adminBoardMapper.deleteBoard(boardId);
+        homeResponseCache.invalidateAll();
+        boardTreeCache.invalidate();
     }
 }
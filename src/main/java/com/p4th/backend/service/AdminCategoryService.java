@@ -28,6 +28,8 @@ public class AdminCategoryService {
 
     private final AdminCategoryMapper adminCategoryMapper;
     private final AdminBoardMapper adminBoardMapper;
+    private final HomeResponseCache homeResponseCache;
+    private final BoardTreeCache boardTreeCache;
 
     private final AdminCategoryRepository adminCategoryRepository;
 
@@ -52,6 +54,8 @@ public class AdminCategoryService {
         category.setMainExposure(mainExposure);
         category.setUpdatedBy(userId);
         adminCategoryMapper.updateCategory(category);
+        homeResponseCache.invalidate(HomeResponseCache.POPULAR_BOARDS);
+        boardTreeCache.invalidate();
     }
 
     @Transactional
@@ -74,6 +78,7 @@ public class AdminCategoryService {
         }
         category.setSortOrder(maxSortOrder + 1);
         adminCategoryMapper.insertCategory(category);
+        boardTreeCache.invalidate();
         return category.getCategoryId();
     }
 
@@ -90,6 +95,7 @@ public class AdminCategoryService {
             String categoryId = order.get(i);
             adminCategoryMapper.updateCategoryOrder(userId, categoryId, i);
         }
+        boardTreeCache.invalidate();
     }
 
     @Transactional(readOnly = true)
@@ -115,6 +121,7 @@ public class AdminCategoryService {
                 adminBoardMapper.updateBoardOrder(userId, categoryId, order.get(i), i);
             }
         }
+        boardTreeCache.invalidate();
     }
 
     /**
@@ -144,6 +151,9 @@ public class AdminCategoryService {
         if (updated != 1) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "카테고리명 수정에 실패하였습니다.");
         }
+        // 카테고리명은 인기 게시판과 인기 게시글에 함께 노출됨
+        homeResponseCache.invalidateAll();
+        boardTreeCache.invalidate();
     }
 
     /**
@@ -160,5 +170,7 @@ public class AdminCategoryService {
         if (deleted != 1) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "카테고리 삭제에 실패하였습니다.");
         }
+        homeResponseCache.invalidateAll();
+        boardTreeCache.invalidate();
     }
 }
@@ -18,6 +18,7 @@ public class AdminUserService {
 
     private final AdminUserMapper adminUserMapper;
     private final AdminUserRepository adminUserRepository;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     @Transactional(readOnly = true)
     public Page<UserProfileResponse> getUserList(String userId, String nickname, Pageable pageable) {
@@ -39,6 +40,7 @@ public class AdminUserService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
         adminUserMapper.updateAdminRole(currentUserId, userId, adminRole);
+        userAuthStatusCache.invalidate(userId);
     }
 
     private boolean isUserNotExists(String userId) {
@@ -16,6 +16,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -28,6 +30,8 @@ public class AuthService {
     private final AuthMapper authMapper;
     private final JwtProvider jwtProvider;
     private final AdminBlockService adminBlockService;
+    private final SearchSuggestService searchSuggestService;
+    private final UserAuthStatusCache userAuthStatusCache;
 
     // 회원가입: 회원가입 요청 후 바로 SignUpResponse 반환
     public SignUpResponse signUp(String userId, String password, String nickname, HttpServletRequest request) {
@@ -47,6 +51,7 @@ public class AuthService {
         } catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "회원가입 중 오류 발생: " + Arrays.toString(e.getStackTrace()));
         }
+        searchSuggestService.onUserRegistered(nickname);
 
         return new SignUpResponse(userId, passCode);
     }
@@ -187,9 +192,11 @@ public class AuthService {
                 throw new CustomException(ErrorCode.NICKNAME_CHANGE_NOT_ALLOWED);
             }
         }
+        String oldNickname = user.getNickname();
         user.setNickname(newNickname);
         user.setNicknameChangedAt(LocalDateTime.now());
         authMapper.updateUserNickname(user);
+        afterCommit(() -> searchSuggestService.onNicknameChanged(oldNickname, newNickname));
         return UserProfileResponse.from(user);
     }
 
@@ -218,6 +225,7 @@ public class AuthService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
         authMapper.deleteUser(userId);
+        userAuthStatusCache.invalidate(userId);
         return UserProfileResponse.from(user);
     }
 
@@ -235,4 +243,18 @@ public class AuthService {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "내 계정 조회 중 오류: " + Arrays.toString(e.getStackTrace()));
         }
     }
+
+    // 트랜잭션이 커밋된 뒤에 실행 (롤백된 변경이 자동완성 등 메모리 상태에 반영되지 않도록)
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
 }
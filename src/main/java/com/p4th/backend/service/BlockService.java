@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class BlockService {
     private final BlockMapper blockMapper;
+    private final BlockedUsersCache blockedUsersCache;
 
     @Transactional
     public String blockUser(String userId, String targetUserId) {
@@ -24,6 +25,7 @@ public class BlockService {
         if (inserted != 1) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "사용자 차단 실패");
         }
+        blockedUsersCache.invalidate(userId);
         return block.getBlockId();
     }
 }
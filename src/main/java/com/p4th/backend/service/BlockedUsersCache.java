@@ -0,0 +1,98 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.mapper.BlockMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 차단 대상 사용자 ID 집합 캐시.
+ * 목록/댓글/인기글 조회마다 block 테이블을 서브쿼리로 다시 읽지 않고, 캐시된 집합을 쿼리 파라미터로 바인딩하거나 메모리에서 필터링한다.
+ * 최대 보관 사용자 수(LRU)와 TTL로 크기를 제한하며, 차단 등록 시 해당 사용자 항목을 무효화한다.
+ */
+@Service
+public class BlockedUsersCache {
+
+    // 적재 도중 무효화가 있었는지 판단하기 위한 사용자 ID 해시별 변경 번호
+    private static final int STRIPES = 64;
+
+    private final BlockMapper blockMapper;
+    private final long ttlMillis;
+    private final Map<String, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public BlockedUsersCache(BlockMapper blockMapper,
+                             @Value("${p4th.block-cache.max-size:10000}") int maxSize,
+                             @Value("${p4th.block-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.blockMapper = blockMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param userId 로그인 사용자 ID (비로그인이면 null)
+     * @return 차단한 사용자 ID 집합 (수정 불가), 없거나 비로그인이면 빈 집합
+     */
+    public Set<String> getBlockedUserIds(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Set.of();
+        }
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Entry entry = cache.get(userId);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.blockedUserIds;
+            }
+        }
+        long generation = generations.get(stripe(userId));
+        Set<String> blockedUserIds = Set.copyOf(blockMapper.findBlockedByUserId(userId));
+        // 적재 도중 같은 구간의 무효화가 있었으면 이전 목록일 수 있으므로 캐시하지 않음 (다음 조회 시 다시 적재)
+        if (generations.get(stripe(userId)) == generation) {
+            synchronized (cache) {
+                cache.put(userId, new Entry(blockedUserIds, now + ttlMillis));
+            }
+        }
+        return blockedUserIds;
+    }
+
+    /**
+     * 사용자의 차단 목록이 바뀌었을 때 호출. 트랜잭션 안이면 커밋 이후에도 한 번 더 무효화하여
+     * 커밋 전에 다시 적재된 이전 목록이 남지 않도록 한다.
+     */
+    public void invalidate(String userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private void evict(String userId) {
+        generations.incrementAndGet(stripe(userId));
+        synchronized (cache) {
+            cache.remove(userId);
+        }
+    }
+
+    private static int stripe(String userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+
+    private record Entry(Set<String> blockedUserIds, long expiresAt) {
+    }
+}
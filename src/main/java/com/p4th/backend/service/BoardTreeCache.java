@@ -0,0 +1,126 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.Board;
+import com.p4th.backend.domain.Category;
+import com.p4th.backend.mapper.MenuMapper;
+import com.p4th.backend.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 -> 게시판 트리 캐시. 변경되지 않는 스냅샷을 메모리에 두고, 관리자 카테고리/게시판 변경이 커밋되면
+ * 새 스냅샷을 만들어 통째로 교체(copy-on-write)한다. 조회 시에는 잠금 없이 현재 스냅샷만 읽는다.
+ * 다른 서버 인스턴스에서의 변경은 SchedulerController의 주기적 재적재로 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardTreeCache {
+
+    private final MenuMapper menuMapper;
+    private final PostMapper postMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 메인 노출(main_exposure = 1) 카테고리 목록 (정렬 순서대로, 수정 불가)
+     */
+    public List<Category> getExposedCategories() {
+        return current().exposedCategories;
+    }
+
+    /**
+     * 메인 노출 카테고리의 게시판 목록 (정렬 순서대로, 수정 불가). 노출되지 않거나 없는 카테고리면 빈 목록
+     */
+    public List<Board> getExposedBoards(String categoryId) {
+        return current().exposedBoardsByCategory.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * 카테고리 정보가 포함된 게시판. 스냅샷에 없으면 DB에서 조회한다.
+     */
+    public Board getBoard(String boardId) {
+        Board board = current().boardsById.get(boardId);
+        return board != null ? board : postMapper.getBoardWithCategory(boardId);
+    }
+
+    /**
+     * 카테고리/게시판 변경 시 호출. 트랜잭션 안이면 커밋 이후에 다시 적재한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    public void reload() {
+        try {
+            snapshot = load();
+        } catch (Exception e) {
+            // 적재 실패 시 이전 스냅샷을 계속 사용
+            log.warn("카테고리/게시판 트리 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Map<String, Category> categoriesById = new LinkedHashMap<>();
+        for (Category category : menuMapper.findAllCategories()) {
+            categoriesById.put(category.getCategoryId(), category);
+        }
+        Map<String, Board> boardsById = new HashMap<>();
+        Map<String, List<Board>> exposedBoardsByCategory = new HashMap<>();
+        for (Board board : menuMapper.findAllBoards()) {
+            Category category = categoriesById.get(board.getCategoryId());
+            if (category != null) {
+                board.setCategory(category);
+                board.setCategoryName(category.getCategoryName());
+                board.setIsNotice(category.getIsNotice());
+            }
+            boardsById.put(board.getBoardId(), board);
+            if (category != null && category.getMainExposure() == 1) {
+                exposedBoardsByCategory.computeIfAbsent(category.getCategoryId(), id -> new ArrayList<>()).add(board);
+            }
+        }
+        exposedBoardsByCategory.replaceAll((categoryId, boards) -> List.copyOf(boards));
+        List<Category> exposedCategories = categoriesById.values().stream()
+                .filter(category -> category.getMainExposure() == 1)
+                .toList();
+        return new Snapshot(exposedCategories, Collections.unmodifiableMap(exposedBoardsByCategory),
+                Collections.unmodifiableMap(boardsById));
+    }
+
+    private record Snapshot(List<Category> exposedCategories,
+                            Map<String, List<Board>> exposedBoardsByCategory,
+                            Map<String, Board> boardsById) {
+    }
+}
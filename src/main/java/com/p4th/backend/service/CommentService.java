@@ -30,6 +30,8 @@ public class CommentService {
     private final PostMapper postMapper;
     private final NotificationService notificationService;
     private final PostRepository postRepository;
+    private final PopularityCounterService popularityCounterService;
+    private final BlockedUsersCache blockedUsersCache;
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByPost(String postId, String currentUserId) {
@@ -38,7 +40,7 @@ public class CommentService {
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
         String postAuthorId = post.getUserId();
 
-        return commentMapper.getCommentsByPost(postId, currentUserId).stream()
+        return commentMapper.getCommentsByPost(postId, blockedUsersCache.getBlockedUserIds(currentUserId)).stream()
                 .map(comment -> CommentResponse.from(comment, currentUserId, postAuthorId))
                 .collect(Collectors.toList());
     }
@@ -71,6 +73,7 @@ public class CommentService {
         }
         // 댓글 생성 후 해당 게시글의 comment_count 증가
         postMapper.incrementCommentCount(postId);
+        popularityCounterService.recordComment(postId);
 
         // 알림 생성 로직
         // 1. 대댓글인 경우: 부모 댓글 작성자, 게시글 작성자에게 알림 생성 (자신이 작성한 댓글은 제외)
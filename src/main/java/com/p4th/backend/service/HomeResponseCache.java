@@ -0,0 +1,145 @@
+package com.p4th.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 메인 화면 응답(배너, 인기 게시판, 기간별 인기 게시글) 캐시.
+ * 갱신 주기가 지나거나 무효화되어도 이전 값을 바로 반환하고 백그라운드에서 다시 계산(refresh-ahead)하므로,
+ * 최초 적재 이후의 메인 화면 조회는 DB 부하와 무관하게 응답한다.
+ * 인기 게시글 집계 스케줄 완료, 관리자 배너/카테고리/게시판 변경 시 해당 항목을 무효화한다.
+ */
+@Slf4j
+@Service
+public class HomeResponseCache {
+
+    public static final String BANNERS = "banners";
+    public static final String POPULAR_BOARDS = "popularBoards";
+    private static final String POPULAR_POSTS_PREFIX = "popularPosts:";
+
+    private final TaskScheduler taskScheduler;
+    private final long refreshIntervalMillis;
+    private final Map<String, Slot<?>> slots = new ConcurrentHashMap<>();
+
+    public HomeResponseCache(TaskScheduler taskScheduler,
+                             @Value("${p4th.home-cache.refresh-seconds:60}") long refreshSeconds) {
+        this.taskScheduler = taskScheduler;
+        this.refreshIntervalMillis = refreshSeconds * 1000;
+    }
+
+    public static String popularPostsKey(String period) {
+        return POPULAR_POSTS_PREFIX + period;
+    }
+
+    /**
+     * 캐시된 값을 반환한다. 값이 없으면 loader로 적재하고, 갱신 시점이 지났으면 이전 값을 반환하면서 백그라운드 갱신을 요청한다.
+     * @param loader 처음 조회될 때 등록되어 이후 갱신에도 사용되는 적재 함수 (반환 값은 수정하지 않아야 함)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        Slot<T> slot = (Slot<T>) slots.computeIfAbsent(key, k -> new Slot<>(k, loader));
+        return slot.get();
+    }
+
+    /**
+     * 항목을 무효화하고 백그라운드에서 다시 계산한다. 트랜잭션 안이면 커밋 이후에 다시 계산한다.
+     */
+    public void invalidate(String key) {
+        Slot<?> slot = slots.get(key);
+        if (slot == null) {
+            return;
+        }
+        // 커밋 전에 다시 계산하면 변경 이전 데이터가 적재되므로 트랜잭션 안이면 커밋 이후에 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    slot.markStale();
+                }
+            });
+        } else {
+            slot.markStale();
+        }
+    }
+
+    /**
+     * 카테고리/게시판명처럼 여러 항목에 함께 노출되는 정보가 바뀌었을 때 모든 항목을 무효화한다.
+     */
+    public void invalidateAll() {
+        slots.keySet().forEach(this::invalidate);
+    }
+
+    private class Slot<T> {
+        private final String key;
+        private final Supplier<T> loader;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        // 무효화될 때마다 증가. 갱신 도중 무효화되면 갱신 결과를 여전히 오래된 값으로 취급
+        private final AtomicLong version = new AtomicLong();
+        private volatile T value;
+        private volatile long refreshAt;
+
+        Slot(String key, Supplier<T> loader) {
+            this.key = key;
+            this.loader = loader;
+        }
+
+        T get() {
+            T current = value;
+            if (current == null) {
+                synchronized (this) {
+                    if (value == null) {
+                        load();
+                    }
+                    return value;
+                }
+            }
+            if (System.currentTimeMillis() >= refreshAt) {
+                refreshAsync();
+            }
+            return current;
+        }
+
+        void markStale() {
+            version.incrementAndGet();
+            refreshAt = 0;
+            if (value != null) {
+                refreshAsync();
+            }
+        }
+
+        private void refreshAsync() {
+            if (!refreshing.compareAndSet(false, true)) {
+                return;
+            }
+            taskScheduler.schedule(() -> {
+                try {
+                    load();
+                } catch (Exception e) {
+                    // 갱신 실패 시 이전 값을 계속 사용하고 다음 주기에 재시도
+                    refreshAt = System.currentTimeMillis() + refreshIntervalMillis;
+                    log.warn("메인 화면 캐시 갱신 실패 ({}): {}", key, e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            }, Instant.now());
+        }
+
+        private void load() {
+            long loadingVersion = version.get();
+            T loaded = loader.get();
+            value = loaded;
+            refreshAt = version.get() == loadingVersion ? System.currentTimeMillis() + refreshIntervalMillis : 0;
+        }
+    }
+}
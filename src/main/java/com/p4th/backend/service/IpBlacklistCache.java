@@ -0,0 +1,84 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.mapper.IpBlacklistMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 차단(BLOCKED) 상태인 IP 주소 집합. 로그인/회원가입과 로그인 필요 API마다 ip_blacklist를 조회하지 않도록
+ * 전체 집합을 메모리에 두고, 관리자 차단/해제 커밋 시와 SchedulerController의 주기적 재적재 시 통째로 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IpBlacklistCache {
+
+    private final IpBlacklistMapper ipBlacklistMapper;
+
+    private volatile Set<String> blockedIps;
+    // 차단 상태 변경 번호. 적재 도중 변경이 커밋되었으면 읽은 목록이 이전 것일 수 있으므로 교체하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public boolean isBlocked(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return false;
+        }
+        return current().contains(ip);
+    }
+
+    /**
+     * IP 차단 상태가 바뀌었을 때 호출. 트랜잭션 안이면 커밋 이후에 다시 적재한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadAfterChange();
+                }
+            });
+        } else {
+            reloadAfterChange();
+        }
+    }
+
+    public void reload() {
+        long loadedGeneration = generation.get();
+        try {
+            Set<String> loaded = Set.copyOf(ipBlacklistMapper.findBlockedIpAddresses());
+            synchronized (this) {
+                // 적재 도중 변경이 있었으면 변경 쪽의 재적재 결과를 덮어쓰지 않음
+                if (generation.get() == loadedGeneration) {
+                    blockedIps = loaded;
+                }
+            }
+        } catch (Exception e) {
+            // 적재 실패 시 이전 집합을 계속 사용
+            log.warn("차단 IP 목록 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void reloadAfterChange() {
+        generation.incrementAndGet();
+        reload();
+    }
+
+    private Set<String> current() {
+        Set<String> current = blockedIps;
+        if (current == null) {
+            synchronized (this) {
+                if (blockedIps == null) {
+                    blockedIps = Set.copyOf(ipBlacklistMapper.findBlockedIpAddresses());
+                }
+                current = blockedIps;
+            }
+        }
+        return current;
+    }
+}
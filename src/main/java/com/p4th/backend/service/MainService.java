@@ -3,17 +3,20 @@ package com.p4th.backend.service;
 import com.p4th.backend.common.exception.CustomException;
 import com.p4th.backend.common.exception.ErrorCode;
 import com.p4th.backend.domain.Banner;
+import com.p4th.backend.domain.PostHistoryLog;
+import com.p4th.backend.dto.response.HomeResponse;
 import com.p4th.backend.dto.response.board.PopularBoardResponse;
 import com.p4th.backend.dto.response.post.PopularPostResponse;
 import com.p4th.backend.dto.response.post.PostListResponse;
 import com.p4th.backend.mapper.MainMapper;
 import com.p4th.backend.mapper.PostHistoryLogMapper;
-import com.p4th.backend.util.HtmlImageUtils;
 import com.p4th.backend.util.RelativeTimeFormatter;
 import com.p4th.backend.util.HtmlContentUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -21,24 +24,29 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MainService {
 
     private final MainMapper mainMapper;
     private final PostHistoryLogMapper postHistoryLogMapper;
+    private final PopularityCounterService popularityCounterService;
+    private final BlockedUsersCache blockedUsersCache;
+    private final HomeResponseCache homeResponseCache;
+
+    private static final List<String> POPULAR_PERIODS = List.of("HOURLY", "DAILY", "WEEKLY", "MONTHLY");
 
     public List<PopularBoardResponse> getPopularBoards() {
         try {
-            List<PopularBoardResponse> boards = mainMapper.getPopularBoards();
-            if (boards == null) {
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인기 게시판 목록 조회 실패");
-            }
-            return boards;
+            return homeResponseCache.get(HomeResponseCache.POPULAR_BOARDS, this::loadPopularBoards);
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
@@ -48,11 +56,7 @@ public class MainService {
 
     public List<Banner> getBanners() {
         try {
-            List<Banner> banners = mainMapper.getBanners();
-            if (banners == null) {
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "배너 목록 조회 실패");
-            }
-            return banners;
+            return homeResponseCache.get(HomeResponseCache.BANNERS, this::loadBanners);
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
@@ -60,52 +64,163 @@ public class MainService {
         }
     }
 
-    @Transactional(readOnly = true)
-    public List<PopularPostResponse> getPopularPosts(String period, String userId) {
+    /**
+     * 메인 화면에 필요한 배너, 인기 게시판, 인기 게시글을 한 번에 조회한다.
+     */
+    public HomeResponse getHome(String period, String userId) {
+        HomeResponse response = new HomeResponse();
+        response.setBanners(getBanners());
+        response.setPopularBoards(getPopularBoards());
+        response.setPopularPosts(getPopularPosts(period, userId, false));
+        return response;
+    }
+
+    /**
+     * 기간별 인기 게시글. 기간별로 캐시된 목록에서 로그인 사용자가 차단한 작성자의 게시글만 제외한다.
+     */
+    public List<PopularPostResponse> getPopularPosts(String period, String userId, boolean live) {
+        if (live) {
+            return getLivePopularPosts(period, userId);
+        }
+        String periodType = period == null ? "" : period.toUpperCase(Locale.ROOT);
+        if (!POPULAR_PERIODS.contains(periodType)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 조회 기간입니다.");
+        }
         try {
-            LocalDate today = LocalDate.now();
-            Map<String, Object> params = new HashMap<>();
-            params.put("userId", userId);
-            params.put("period", period);
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-            if ("HOURLY".equalsIgnoreCase(period)) {
-                LocalDateTime now = LocalDateTime.now();
-                LocalDateTime lastHourStart = now.minusHours(1).withMinute(0).withSecond(0).withNano(0);
-                LocalDateTime nextHourStart = lastHourStart.plusHours(1);
-                params.put("startDate", lastHourStart.format(dtf));
-                params.put("endDate", nextHourStart.format(dtf));
-            } else if ("DAILY".equalsIgnoreCase(period)) {
-                LocalDate yesterday = today.minusDays(1);
-                LocalDateTime dayStart = yesterday.atStartOfDay();
-                LocalDateTime nextDayStart = dayStart.plusDays(1);
-                params.put("startDate", dayStart.format(dtf));
-                params.put("endDate", nextDayStart.format(dtf));
-            } else if ("WEEKLY".equalsIgnoreCase(period)) {
-                // 전주: 지난 주 월요일 00:00:00 ~ 다음 월요일 00:00:00
-                LocalDate lastMonday = today.with(TemporalAdjusters.previous(DayOfWeek.MONDAY));
-                LocalDateTime weekStart = lastMonday.atStartOfDay();
-                LocalDateTime nextWeekStart = weekStart.plusWeeks(1);
-                params.put("startDate", weekStart.format(dtf));
-                params.put("endDate", nextWeekStart.format(dtf));
-            } else if ("MONTHLY".equalsIgnoreCase(period)) {
-                // 전달: 지난 달 1일 00:00:00 ~ 다음 달 1일 00:00:00
-                LocalDate firstDayLastMonth = today.minusMonths(1).withDayOfMonth(1);
-                LocalDateTime monthStart = firstDayLastMonth.atStartOfDay();
-                LocalDateTime nextMonthStart = monthStart.plusMonths(1);
-                params.put("startDate", monthStart.format(dtf));
-                params.put("endDate", nextMonthStart.format(dtf));
-            } else {
-                throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 조회 기간입니다.");
+            List<PopularPostResponse> cached = homeResponseCache.get(HomeResponseCache.popularPostsKey(periodType),
+                    () -> loadPopularPosts(periodType));
+            Set<String> blockedUserIds = blockedUsersCache.getBlockedUserIds(userId);
+            // 캐시된 객체는 공유되므로 복사본에 상대 시간을 적용 (작성일 표시는 조회 시각 기준)
+            return cached.stream()
+                    .filter(post -> !blockedUserIds.contains(post.getUserId()))
+                    .map(this::toPopularPostView)
+                    .toList();
+        } catch (CustomException ce) {
+            throw ce;
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인기 게시글 조회 중 오류: " + e.getMessage());
+        }
+    }
+
+    // 서버 기동 직후 메인 화면 캐시를 미리 적재 (첫 요청이 DB 조회를 기다리지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpHomeCache() {
+        try {
+            getBanners();
+            getPopularBoards();
+            for (String period : POPULAR_PERIODS) {
+                homeResponseCache.get(HomeResponseCache.popularPostsKey(period), () -> loadPopularPosts(period));
             }
+        } catch (Exception e) {
+            log.warn("메인 화면 캐시 사전 적재 실패: {}", e.getMessage());
+        }
+    }
 
-            List<PopularPostResponse> responses = postHistoryLogMapper.getPopularPostsByPeriod(params);
+    private List<PopularBoardResponse> loadPopularBoards() {
+        List<PopularBoardResponse> boards = mainMapper.getPopularBoards();
+        if (boards == null) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인기 게시판 목록 조회 실패");
+        }
+        return List.copyOf(boards);
+    }
+
+    private List<Banner> loadBanners() {
+        List<Banner> banners = mainMapper.getBanners();
+        if (banners == null) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "배너 목록 조회 실패");
+        }
+        return List.copyOf(banners);
+    }
+
+    // 차단 필터 없이 기간별 인기 게시글을 조회 (작성일은 원래 형식 그대로 보관)
+    private List<PopularPostResponse> loadPopularPosts(String period) {
+        LocalDate today = LocalDate.now();
+        Map<String, Object> params = new HashMap<>();
+        params.put("blockedUserIds", Set.of());
+        params.put("period", period);
+        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        if ("HOURLY".equals(period)) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime lastHourStart = now.minusHours(1).withMinute(0).withSecond(0).withNano(0);
+            LocalDateTime nextHourStart = lastHourStart.plusHours(1);
+            params.put("startDate", lastHourStart.format(dtf));
+            params.put("endDate", nextHourStart.format(dtf));
+        } else if ("DAILY".equals(period)) {
+            LocalDate yesterday = today.minusDays(1);
+            LocalDateTime dayStart = yesterday.atStartOfDay();
+            LocalDateTime nextDayStart = dayStart.plusDays(1);
+            params.put("startDate", dayStart.format(dtf));
+            params.put("endDate", nextDayStart.format(dtf));
+        } else if ("WEEKLY".equals(period)) {
+            // 전주: 지난 주 월요일 00:00:00 ~ 다음 월요일 00:00:00
+            LocalDate lastMonday = today.with(TemporalAdjusters.previous(DayOfWeek.MONDAY));
+            LocalDateTime weekStart = lastMonday.atStartOfDay();
+            LocalDateTime nextWeekStart = weekStart.plusWeeks(1);
+            params.put("startDate", weekStart.format(dtf));
+            params.put("endDate", nextWeekStart.format(dtf));
+        } else {
+            // 전달: 지난 달 1일 00:00:00 ~ 다음 달 1일 00:00:00
+            LocalDate firstDayLastMonth = today.minusMonths(1).withDayOfMonth(1);
+            LocalDateTime monthStart = firstDayLastMonth.atStartOfDay();
+            LocalDateTime nextMonthStart = monthStart.plusMonths(1);
+            params.put("startDate", monthStart.format(dtf));
+            params.put("endDate", nextMonthStart.format(dtf));
+        }
+
+        List<PopularPostResponse> responses = postHistoryLogMapper.getPopularPostsByPeriod(params);
+        responses.forEach(response -> {
+            if (response.getTitle() != null) {
+                response.setTitle(HtmlContentUtils.extractText(response.getTitle(), 20));
+            }
+        });
+        return List.copyOf(responses);
+    }
+
+    private PopularPostResponse toPopularPostView(PopularPostResponse cached) {
+        PopularPostResponse response = new PopularPostResponse();
+        response.setPostId(cached.getPostId());
+        response.setBoardId(cached.getBoardId());
+        response.setCategoryName(cached.getCategoryName());
+        response.setBoardName(cached.getBoardName());
+        response.setUserId(cached.getUserId());
+        response.setNickname(cached.getNickname());
+        response.setTitle(cached.getTitle());
+        response.setContent(cached.getContent());
+        response.setStatus(cached.getStatus());
+        response.setViewCount(cached.getViewCount());
+        response.setCommentCount(cached.getCommentCount());
+        response.setImageUrl(cached.getImageUrl());
+        response.setImageCount(cached.getImageCount());
+        if (cached.getCreatedAt() != null && !cached.getCreatedAt().isEmpty()) {
+            LocalDateTime createdTime = LocalDateTime.parse(cached.getCreatedAt(), PostListResponse.formatter);
+            response.setCreatedAt(RelativeTimeFormatter.formatRelativeTime(createdTime));
+        }
+        return response;
+    }
+
+    /**
+     * 메모리 내 시간 버킷으로 계산한 실시간(이동 구간) 인기 게시글 조회
+     */
+    private List<PopularPostResponse> getLivePopularPosts(String period, String userId) {
+        try {
+            List<PostHistoryLog> ranking = popularityCounterService.getLiveRanking(period);
+            if (ranking.isEmpty()) {
+                return List.of();
+            }
+            Map<String, Integer> rankByPostId = new HashMap<>();
+            for (int i = 0; i < ranking.size(); i++) {
+                rankByPostId.put(ranking.get(i).getPostId(), i);
+            }
+            List<PopularPostResponse> responses = postHistoryLogMapper.getPopularPostsByIds(
+                    ranking.stream().map(PostHistoryLog::getPostId).toList(), blockedUsersCache.getBlockedUserIds(userId));
+            responses.sort(Comparator.comparing(response -> rankByPostId.get(response.getPostId())));
             responses.forEach(this::processPopularPostResponse);
             return responses;
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인기 게시글 조회 중 오류: " + e.getMessage());
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "실시간 인기 게시글 조회 중 오류: " + e.getMessage());
         }
     }
 
@@ -113,16 +228,7 @@ public class MainService {
      * 각 PopularPostResponse 객체에 대해 공통 처리 로직
      */
     private void processPopularPostResponse(PopularPostResponse response) {
-        // 이미지 처리
-        String imgUrl = HtmlImageUtils.extractFirstImageUrl(response.getContent());
-        int imgCount = HtmlImageUtils.countInlineImages(response.getContent());
-        response.setImageUrl(imgUrl);
-        response.setImageCount(imgCount);
-        // HTML 태그 제거 후 순수 텍스트 추출 (최대 100자)
-        if (response.getContent() != null && !response.getContent().isEmpty()) {
-            String plainText = HtmlContentUtils.extractPlainText(response.getContent(), 100);
-            response.setContent(plainText);
-        }
+        // 본문 미리보기/썸네일/이미지 개수는 게시글에 저장된 요약 정보를 그대로 사용
         // 제목 최대 24자 처리
         if (response.getTitle() != null) {
             response.setTitle(HtmlContentUtils.extractText(response.getTitle(), 20));
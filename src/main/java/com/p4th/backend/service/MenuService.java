@@ -9,7 +9,6 @@ import com.p4th.backend.dto.response.post.PostListResponse;
 import com.p4th.backend.dto.response.user.UserCommentPostResponse;
 import com.p4th.backend.dto.response.user.UserCommentResponse;
 import com.p4th.backend.mapper.PostMapper;
-import com.p4th.backend.mapper.MenuMapper;
 import com.p4th.backend.repository.PostRepository;
 import com.p4th.backend.common.exception.CustomException;
 import com.p4th.backend.common.exception.ErrorCode;
@@ -31,12 +30,13 @@ public class MenuService {
 
     private final PostRepository postRepository;
     private final PostMapper postMapper;
-    private final MenuMapper menuMapper;
+    private final BlockedUsersCache blockedUsersCache;
+    private final BoardTreeCache boardTreeCache;
 
     @Transactional(readOnly = true)
     public List<PostListResponse> getRecentPosts(String userId) {
         try {
-            List<Post> recentPosts = postMapper.findRecentPostsByUserId(userId);
+            List<Post> recentPosts = postMapper.findRecentPostsByUserId(userId, blockedUsersCache.getBlockedUserIds(userId));
             return recentPosts.stream()
                     .map(PostListResponse::from)
                     .collect(Collectors.toList());
@@ -85,7 +85,7 @@ public class MenuService {
 
     public List<Category> getAllCategories() {
         try {
-            return menuMapper.getAllCategories();
+            return boardTreeCache.getExposedCategories();
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
@@ -95,7 +95,7 @@ public class MenuService {
 
     public List<BoardResponse> getBoardsByCategory(String categoryId) {
         try {
-            List<Board> boards = menuMapper.getBoardsByCategory(categoryId);
+            List<Board> boards = boardTreeCache.getExposedBoards(categoryId);
             return boards.stream().map(board -> {
                 BoardResponse dto = new BoardResponse();
                 dto.setBoardId(board.getBoardId());
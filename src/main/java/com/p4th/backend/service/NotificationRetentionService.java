@@ -0,0 +1,118 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.config.NotificationRetentionProperties;
+import com.p4th.backend.domain.NotificationType;
+import com.p4th.backend.mapper.NotificationMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 보관(archive) 작업. 타입별 보관 기간이 지난 읽은 개인 알림을 notification_archive 로,
+ * 보관 기간이 지난 전체 회원 대상 알림을 broadcast_notification_archive 로 옮긴다.
+ * 전체 회원 대상 알림은 회원별 읽음 여부와 관계없이 생성 시각만으로 보관하므로, 읽지 않은 회원에게서도 사라진다
+ * (오래 접속하지 않은 회원의 읽음 기준 때문에 보관이 무기한 밀리지 않도록).
+ * 잠금 시간이 길어지지 않도록 chunk-size 건씩 나누어 각각 별도 트랜잭션으로 복사 후 삭제한다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationRetentionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadCountService unreadCountService;
+    private final Map<NotificationType, Counter> archivedCounters = new EnumMap<>(NotificationType.class);
+
+    public NotificationRetentionService(NotificationMapper notificationMapper,
+                                        NotificationRetentionProperties properties,
+                                        TransactionTemplate transactionTemplate,
+                                        UnreadCountService unreadCountService,
+                                        MeterRegistry meterRegistry) {
+        this.notificationMapper = notificationMapper;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.unreadCountService = unreadCountService;
+        for (NotificationType type : NotificationType.values()) {
+            archivedCounters.put(type, Counter.builder("notification.retention.archived")
+                    .tag("type", type.name())
+                    .description("보관 테이블로 옮긴 알림 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 보관 기간이 설정된 모든 알림 타입을 처리한다.
+     * @return 타입별 보관 처리한 알림 수 (개인 알림 + 전체 회원 대상 알림)
+     */
+    public Map<NotificationType, Integer> archiveExpired() {
+        Map<NotificationType, Integer> result = new EnumMap<>(NotificationType.class);
+        boolean broadcastArchived = false;
+        for (NotificationType type : NotificationType.values()) {
+            Integer days = properties.getReadDays().get(type);
+            if (days == null || days <= 0) {
+                continue;
+            }
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+            int personal = archivePersonal(type, cutoff);
+            int broadcasts = archiveBroadcasts(type, cutoff);
+            broadcastArchived |= broadcasts > 0;
+            result.put(type, personal + broadcasts);
+            archivedCounters.get(type).increment(personal + broadcasts);
+            log.info("알림 보관 처리 (type={}, 기준={}일): 개인 알림 {}건, 전체 알림 {}건", type, days, personal, broadcasts);
+        }
+        if (broadcastArchived) {
+            // 읽지 않은 상태로 보관된 전체 알림이 있을 수 있으므로 캐시된 개수를 다시 적재
+            unreadCountService.invalidateAll();
+        }
+        return result;
+    }
+
+    private int archivePersonal(NotificationType type, LocalDateTime cutoff) {
+        int total = 0;
+        int chunkSize = properties.getChunkSize();
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> {
+                List<String> ids = notificationMapper.findArchivableNotificationIds(type, cutoff, chunkSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                notificationMapper.archiveNotifications(ids);
+                notificationMapper.deleteNotifications(ids);
+                return ids.size();
+            });
+            total += archived;
+            if (archived < chunkSize) {
+                return total;
+            }
+        }
+    }
+
+    private int archiveBroadcasts(NotificationType type, LocalDateTime cutoff) {
+        int total = 0;
+        int chunkSize = properties.getChunkSize();
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> {
+                List<String> ids = notificationMapper.findArchivableBroadcastIds(type, cutoff, chunkSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                notificationMapper.archiveBroadcastNotifications(ids);
+                notificationMapper.deleteBroadcastReads(ids);
+                notificationMapper.deleteBroadcastNotifications(ids);
+                return ids.size();
+            });
+            total += archived;
+            if (archived < chunkSize) {
+                return total;
+            }
+        }
+    }
+}
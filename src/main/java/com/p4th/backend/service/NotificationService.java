@@ -5,18 +5,15 @@ import com.p4th.backend.common.exception.ErrorCode;
 import com.p4th.backend.domain.*;
 import com.p4th.backend.dto.response.NotificationResponse;
 import com.p4th.backend.dto.response.UnreadCountResponse;
-import com.p4th.backend.mapper.AuthMapper;
 import com.p4th.backend.mapper.NotificationMapper;
-import com.p4th.backend.mapper.PostMapper;
-import com.p4th.backend.repository.NotificationRepository;
-import com.p4th.backend.util.HtmlImageUtils;
-import com.p4th.backend.util.HtmlContentUtils;
+import com.p4th.backend.util.HtmlSummaryExtractor;
 import com.p4th.backend.util.RelativeTimeFormatter;
 import com.p4th.backend.util.ULIDUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,19 +24,23 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_BATCH_READ_SIZE = 500;
+
     private final NotificationMapper notificationMapper;
-    private final PostMapper postMapper;
-    private final AuthMapper authMapper;
+    private final UnreadCountService unreadCountService;
     @Autowired
     private MessageSource messageSource;
-    private final NotificationRepository notificationRepository;
 
     Locale locale = Locale.getDefault();
 
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getNotifications(String userId, Pageable pageable) {
         try {
-            Page<Notification> notificationPage = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+            // 개인 알림과 전체 회원 대상 알림(공지)을 생성 시각 역순으로 병합
+            List<Notification> notifications = notificationMapper.findNotificationsWithBroadcasts(
+                    userId, pageable.getOffset(), pageable.getPageSize());
+            long total = notificationMapper.countNotificationsWithBroadcasts(userId);
+            Page<Notification> notificationPage = new PageImpl<>(notifications, pageable, total);
             return notificationPage.map(notification -> {
                 NotificationResponse response = new NotificationResponse();
                 response.setNotificationId(notification.getNotificationId());
@@ -52,14 +53,8 @@ public class NotificationService {
                 response.setReadYn(notification.getReadYn());
                 response.setReadAt(notification.getReadAt());
                 response.setCreatedAt(RelativeTimeFormatter.formatRelativeTime(notification.getCreatedAt()));
-
-                // 게시글 ID가 있을 경우 이미지 URL 설정(삭제 안내는 제외)
-                if (!notification.getType().equals(NotificationType.ALERT) && notification.getPostId() != null) {
-                    Post post = postMapper.getPostDetail(notification.getPostId(), null);
-                    if (post != null) {
-                        response.setImageUrl(HtmlImageUtils.extractFirstImageUrl(post.getContent()));
-                    }
-                }
+                // 게시글 썸네일은 목록 조회 쿼리에서 함께 조회 (삭제 안내는 제외)
+                response.setImageUrl(notification.getImageUrl());
                 return response;
             });
         } catch (Exception e) {
@@ -67,26 +62,82 @@ public class NotificationService {
         }
     }
 
-    private String getPostTitle(String postId) {
-        Post post = postMapper.getPostDetail(postId, null);
-        return post != null ? post.getTitle() : "";
+    @Transactional
+    public boolean markNotificationAsRead(String userId, String notificationId) {
+        // 본인 알림이고 읽지 않은 상태였던 경우에만 갱신되므로 갱신 건수만큼 읽지 않은 개수 감소
+        if (notificationMapper.updateNotificationRead(userId, notificationId) == 1) {
+            unreadCountService.adjustNotificationCount(userId, -1);
+            return true;
+        }
+        if (notificationMapper.existsNotification(userId, notificationId)) {
+            return true; // 이미 읽은 개인 알림
+        }
+        // 본인 개인 알림이 아니면 전체 회원 대상 알림의 회원별 읽음 기록 (다른 회원의 개인 알림은 찾을 수 없음으로 처리)
+        if (!notificationMapper.existsBroadcastNotification(notificationId)) {
+            throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
+        }
+        if (notificationMapper.insertBroadcastRead(notificationId, userId) == 0) {
+            return true; // 이미 읽었거나 노출 대상이 아닌 알림
+        }
+        unreadCountService.adjustNotificationCount(userId, -1);
+        // 읽지 않은 전체 알림이 남아있지 않으면 읽음 기준 ID를 올리고 개별 읽음 기록을 정리
+        if (notificationMapper.countUnreadBroadcasts(userId) == 0) {
+            notificationMapper.advanceBroadcastWatermark(userId);
+            notificationMapper.deleteBroadcastReadsBelowWatermark(userId);
+        }
+        return true;
     }
 
+    /**
+     * 기준 알림 ID(ULID) 이하의 모든 알림을 읽음 처리. 개인 알림은 한 번의 UPDATE로, 전체 회원 대상 알림은 읽음 기준 ID를 올려 처리한다.
+     * @param upToNotificationId 마지막으로 확인한 알림 ID (null이면 전체)
+     * @return 읽음 처리된 알림 수
+     */
     @Transactional
-    public boolean markNotificationAsRead(String notificationId) {
-        int updated = notificationMapper.updateNotificationRead(notificationId);
-        if (updated != 1) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "알림 읽음 처리 실패");
+    public int markAllRead(String userId, String upToNotificationId) {
+        int personal = notificationMapper.markNotificationsReadUpTo(userId, upToNotificationId);
+        int broadcasts = 0;
+        // 개수 집계와 기준 ID 갱신에 같은 알림 ID 기준을 사용해야 읽지 않은 개수가 어긋나지 않음
+        String readUpTo = notificationMapper.findBroadcastReadUpTo(userId, upToNotificationId);
+        if (readUpTo != null) {
+            broadcasts = notificationMapper.countUnreadBroadcastsUpTo(userId, readUpTo);
+            if (broadcasts > 0) {
+                notificationMapper.advanceBroadcastWatermarkTo(userId, readUpTo);
+                notificationMapper.deleteBroadcastReadsBelowWatermark(userId);
+            }
         }
-        return true;
+        int updated = personal + broadcasts;
+        if (updated > 0) {
+            unreadCountService.adjustNotificationCount(userId, -updated);
+        }
+        return updated;
+    }
+
+    /**
+     * 선택한 알림 일괄 읽음 처리 (이미 읽었거나 본인 알림이 아닌 ID는 무시)
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markRead(String userId, List<String> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty() || notificationIds.size() > MAX_BATCH_READ_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "알림 ID는 1개 이상 " + MAX_BATCH_READ_SIZE + "개 이하로 전달해야 합니다.");
+        }
+        List<String> ids = notificationIds.stream().distinct().toList();
+        int personal = notificationMapper.markNotificationsRead(userId, ids);
+        int broadcasts = notificationMapper.insertBroadcastReads(userId, ids);
+        if (broadcasts > 0 && notificationMapper.countUnreadBroadcasts(userId) == 0) {
+            notificationMapper.advanceBroadcastWatermark(userId);
+            notificationMapper.deleteBroadcastReadsBelowWatermark(userId);
+        }
+        int updated = personal + broadcasts;
+        if (updated > 0) {
+            unreadCountService.adjustNotificationCount(userId, -updated);
+        }
+        return updated;
     }
 
-    @Transactional(readOnly = true)
     public UnreadCountResponse getUnreadCount(String userId) {
-        int count = notificationMapper.countUnreadNotifications(userId);
-        UnreadCountResponse response = new UnreadCountResponse();
-        response.setUnreadCount(count);
-        return response;
+        return unreadCountService.getUnreadCount(userId);
     }
 
     /**
@@ -109,31 +160,26 @@ public class NotificationService {
         notification.setReadYn(0);
         notification.setCreatedBy("SYSTEM");
         notificationMapper.insertNotification(notification);
+        unreadCountService.adjustNotificationCount(userId, 1);
     }
 
     /**
      * 공지 게시글이 등록되었을 때 모든 유저에게 알림 생성 (게시글 작성자는 제외)
+     * 회원별로 저장하지 않고 전체 회원 대상 알림 한 건만 저장한다. 목록/읽지 않은 개수 조회 시 개인 알림과 병합된다.
      */
     @Transactional
-    public void notifyNoticePost(String postId, String userId, String content) {
-        List<String> userIds = authMapper.selectAllUserIds();
-        for (String getUserId : userIds) {
-            // 게시글 작성자는 알림 대상에서 제외
-            if (getUserId.equals(userId)) {
-                continue;
-            }
-            Notification notification = new Notification();
-            notification.setNotificationId(ULIDUtil.getULID());
-            notification.setUserId(getUserId);
-            notification.setPostId(postId);
-            notification.setCommentId(null);
-            notification.setType(NotificationType.NOTICE);
-            notification.setTitle(messageSource.getMessage("notification.notice", new Object[]{getPostTitle(notification.getPostId())}, locale));
-            notification.setContent(HtmlContentUtils.extractPlainText(content, 100));
-            notification.setReadYn(0);
-            notification.setCreatedBy("SYSTEM");
-            notificationMapper.insertNotification(notification);
-        }
+    public void notifyNoticePost(String postId, String userId, String postTitle, String content) {
+        BroadcastNotification broadcast = new BroadcastNotification();
+        // 읽음 기준 ID와 비교하므로 생성 순서대로 증가하는 ID 사용
+        broadcast.setBroadcastId(ULIDUtil.getMonotonicULID());
+        broadcast.setPostId(postId);
+        broadcast.setAuthorId(userId);
+        broadcast.setType(NotificationType.NOTICE);
+        broadcast.setTitle(messageSource.getMessage("notification.notice", new Object[]{postTitle}, locale));
+        broadcast.setContent(HtmlSummaryExtractor.extract(content, 100).getPlainText());
+        broadcast.setCreatedBy("SYSTEM");
+        notificationMapper.insertBroadcastNotification(broadcast);
+        unreadCountService.onBroadcastCreated(userId);
     }
 
     /**
@@ -163,5 +209,6 @@ public class NotificationService {
         notification.setReadYn(0);
         notification.setCreatedBy("SYSTEM");
         notificationMapper.insertNotification(notification);
+        unreadCountService.adjustNotificationCount(userId, 1);
     }
 }
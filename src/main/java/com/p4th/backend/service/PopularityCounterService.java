@@ -0,0 +1,309 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.common.exception.CustomException;
+import com.p4th.backend.common.exception.ErrorCode;
+import com.p4th.backend.domain.PopularityBucket;
+import com.p4th.backend.domain.PostHistoryLog;
+import com.p4th.backend.mapper.PopularityBucketMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 게시글 조회/댓글 이벤트를 시간 버킷(분 단위 61칸, 시간 단위 31일치 링 버퍼)에 누적하여
+ * SQL 집계 없이 실시간 인기 게시글 순위를 계산한다.
+ * 버킷은 주기적으로 post_popularity_bucket 테이블에 체크포인트되어 재시작 시 복원된다.
+ * 체크포인트는 마지막 저장 이후의 증가분만 더하므로 여러 인스턴스가 같은 버킷을 저장해도 합산된다.
+ * 조회는 PostViewRecorder 가 post_view 기록으로 받아들인 조회(로그인 사용자, dedup-window 안의 재조회 제외)만 반영하므로
+ * post.view_count 와는 다르고, post_view 기반 SQL 집계와는 큐가 가득 차거나 저장에 실패해 버려진 기록만큼만 차이난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularityCounterService {
+
+    public static final int RANKING_SIZE = 20;
+
+    private static final String UNIT_MINUTE = "MINUTE";
+    private static final String UNIT_HOUR = "HOUR";
+    private static final long MINUTE_MS = 60_000L;
+    private static final long HOUR_MS = 60 * MINUTE_MS;
+    // 최근 60분 구간은 진행 중인 칸과 구간 시작에 걸친 칸까지 61칸에 걸친다
+    private static final int MINUTE_SLOTS = 61;
+    private static final int HOUR_SLOTS = 31 * 24;
+    private static final long RANKING_CACHE_MS = MINUTE_MS;
+    private static final int CHECKPOINT_CHUNK_SIZE = 500;
+
+    private static final int VIEW = 0;
+    private static final int COMMENT = 1;
+    // counts 배열에서 DB에 저장된 값의 위치 (VIEW + FLUSHED, COMMENT + FLUSHED)
+    private static final int FLUSHED = 2;
+
+    private final PopularityBucketMapper popularityBucketMapper;
+
+    private final BucketRing minuteRing = new BucketRing(UNIT_MINUTE, MINUTE_MS, MINUTE_SLOTS);
+    private final BucketRing hourRing = new BucketRing(UNIT_HOUR, HOUR_MS, HOUR_SLOTS);
+    private final Set<Bucket> dirtyBuckets = ConcurrentHashMap.newKeySet();
+    private final Map<String, RankingSnapshot> rankingCache = new ConcurrentHashMap<>();
+
+    // 기간 내 집계된 조회수와 댓글 수를 기준으로 인기 점수 계산
+    public static float calculatePopularity(long viewCount, long commentCount) {
+        return viewCount * 0.4f + commentCount * 0.2f;
+    }
+
+    // PostViewRecorder.record 가 받아들인 조회만 기록
+    public void recordView(String postId) {
+        record(postId, VIEW);
+    }
+
+    public void recordComment(String postId) {
+        record(postId, COMMENT);
+    }
+
+    /**
+     * 현재 시각까지의 이동 구간(HOURLY: 최근 60분, DAILY: 24시간, WEEKLY: 7일, MONTHLY: 30일) 기준 인기 게시글 상위 20개.
+     * 구간 시작에 걸친 버킷은 구간 안에 들어오는 시간 비율만큼만 반영한다.
+     * 계산 결과는 1분간 재사용한다.
+     * @param period 조회 기간 (HOURLY, DAILY, WEEKLY, MONTHLY)
+     * @return 인기 점수 내림차순 게시글 집계 목록
+     */
+    public List<PostHistoryLog> getLiveRanking(String period) {
+        String key = period == null ? "" : period.toUpperCase();
+        long now = System.currentTimeMillis();
+        RankingSnapshot cached = rankingCache.get(key);
+        if (cached != null && now - cached.computedAt < RANKING_CACHE_MS) {
+            return cached.ranking;
+        }
+        List<PostHistoryLog> ranking = switch (key) {
+            case "HOURLY" -> rollup(minuteRing, now, 60);
+            case "DAILY" -> rollup(hourRing, now, 24);
+            case "WEEKLY" -> rollup(hourRing, now, 7 * 24);
+            case "MONTHLY" -> rollup(hourRing, now, 30 * 24);
+            default -> throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 조회 기간입니다.");
+        };
+        rankingCache.put(key, new RankingSnapshot(ranking, now));
+        return ranking;
+    }
+
+    /**
+     * 마지막 체크포인트 이후의 증가분을 DB에 더하고, 보관 기간이 지난 버킷을 정리한다.
+     * 저장에 실패한 증가분은 다음 체크포인트에서 다시 저장한다.
+     */
+    public synchronized void checkpoint() {
+        List<PopularityBucket> rows = new ArrayList<>();
+        List<PendingDelta> deltas = new ArrayList<>();
+        for (Iterator<Bucket> it = dirtyBuckets.iterator(); it.hasNext(); ) {
+            Bucket bucket = it.next();
+            it.remove();
+            LocalDateTime bucketStart = toDateTime(bucket.epoch * bucket.unitMillis);
+            bucket.counts.forEach((postId, counts) -> {
+                long views = counts.get(VIEW) - counts.get(VIEW + FLUSHED);
+                long comments = counts.get(COMMENT) - counts.get(COMMENT + FLUSHED);
+                if (views == 0 && comments == 0) {
+                    return;
+                }
+                PopularityBucket row = new PopularityBucket();
+                row.setBucketUnit(bucket.unit);
+                row.setBucketStart(bucketStart);
+                row.setPostId(postId);
+                row.setViewCount(views);
+                row.setCommentCount(comments);
+                rows.add(row);
+                deltas.add(new PendingDelta(bucket, counts, views, comments));
+            });
+        }
+        for (int from = 0; from < rows.size(); from += CHECKPOINT_CHUNK_SIZE) {
+            int to = Math.min(from + CHECKPOINT_CHUNK_SIZE, rows.size());
+            try {
+                popularityBucketMapper.upsertBuckets(rows.subList(from, to));
+            } catch (RuntimeException e) {
+                // 저장하지 못한 버킷은 다시 변경 목록에 넣어 다음 체크포인트에서 남은 증가분을 저장
+                deltas.subList(from, deltas.size()).forEach(delta -> dirtyBuckets.add(delta.bucket));
+                throw e;
+            }
+            for (PendingDelta delta : deltas.subList(from, to)) {
+                delta.counts.addAndGet(VIEW + FLUSHED, delta.views);
+                delta.counts.addAndGet(COMMENT + FLUSHED, delta.comments);
+            }
+        }
+        long now = System.currentTimeMillis();
+        popularityBucketMapper.deleteBucketsBefore(UNIT_MINUTE, toDateTime(now - MINUTE_SLOTS * MINUTE_MS));
+        popularityBucketMapper.deleteBucketsBefore(UNIT_HOUR, toDateTime(now - HOUR_SLOTS * HOUR_MS));
+    }
+
+    // 재시작 시 보관 중인 체크포인트로 현재 집계 구간을 복원
+    @PostConstruct
+    public void restore() {
+        try {
+            long now = System.currentTimeMillis();
+            restore(minuteRing, popularityBucketMapper.findBucketsSince(UNIT_MINUTE, toDateTime(now - MINUTE_SLOTS * MINUTE_MS)));
+            restore(hourRing, popularityBucketMapper.findBucketsSince(UNIT_HOUR, toDateTime(now - HOUR_SLOTS * HOUR_MS)));
+        } catch (Exception e) {
+            log.warn("인기 집계 체크포인트 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.warn("종료 시 인기 집계 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void record(String postId, int type) {
+        long now = System.currentTimeMillis();
+        increment(minuteRing.bucketAt(now), postId, type);
+        increment(hourRing.bucketAt(now), postId, type);
+    }
+
+    private void increment(Bucket bucket, String postId, int type) {
+        if (bucket == null) {
+            return;
+        }
+        bucket.counts.computeIfAbsent(postId, id -> new AtomicLongArray(4)).incrementAndGet(type);
+        dirtyBuckets.add(bucket);
+    }
+
+    private void restore(BucketRing ring, List<PopularityBucket> rows) {
+        for (PopularityBucket row : rows) {
+            long millis = row.getBucketStart().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            Bucket bucket = ring.bucketAt(millis);
+            if (bucket == null) {
+                continue;
+            }
+            // DB에 이미 저장된 값이므로 저장 위치도 함께 올려 다시 더해지지 않게 함
+            AtomicLongArray counts = bucket.counts.computeIfAbsent(row.getPostId(), id -> new AtomicLongArray(4));
+            counts.addAndGet(VIEW, row.getViewCount());
+            counts.addAndGet(VIEW + FLUSHED, row.getViewCount());
+            counts.addAndGet(COMMENT, row.getCommentCount());
+            counts.addAndGet(COMMENT + FLUSHED, row.getCommentCount());
+        }
+    }
+
+    // 구간 [now - slotCount 단위, now] 내 버킷을 합산한 뒤 크기 RANKING_SIZE의 최소 힙으로 상위 게시글만 추림.
+    // 진행 중인 칸과 그 이전 (slotCount - 1)칸은 전부 더하고, 구간 시작에 걸친 가장 오래된 칸은
+    // 칸 안에서 이벤트가 고르게 분포한다고 보고 구간에 들어오는 시간 비율만큼만 더한다.
+    private List<PostHistoryLog> rollup(BucketRing ring, long now, int slotCount) {
+        long toEpoch = now / ring.unitMillis;
+        long oldestEpoch = toEpoch - slotCount;
+        double oldestWeight = 1 - (double) (now % ring.unitMillis) / ring.unitMillis;
+        Map<String, double[]> totals = new HashMap<>();
+        for (Bucket bucket : ring.bucketsBetween(oldestEpoch, toEpoch)) {
+            double weight = bucket.epoch == oldestEpoch ? oldestWeight : 1;
+            bucket.counts.forEach((postId, counts) -> {
+                double[] total = totals.computeIfAbsent(postId, id -> new double[2]);
+                total[VIEW] += counts.get(VIEW) * weight;
+                total[COMMENT] += counts.get(COMMENT) * weight;
+            });
+        }
+
+        PriorityQueue<PostHistoryLog> heap = new PriorityQueue<>(Comparator.comparing(PostHistoryLog::getPopularityScore));
+        totals.forEach((postId, total) -> {
+            long views = Math.round(total[VIEW]);
+            long comments = Math.round(total[COMMENT]);
+            if (views == 0 && comments == 0) {
+                return;
+            }
+            PostHistoryLog entry = new PostHistoryLog();
+            entry.setPostId(postId);
+            entry.setViewCount((int) views);
+            entry.setCommentCount((int) comments);
+            entry.setPopularityScore(calculatePopularity(views, comments));
+            if (heap.size() < RANKING_SIZE) {
+                heap.add(entry);
+            } else if (heap.peek().getPopularityScore() < entry.getPopularityScore()) {
+                heap.poll();
+                heap.add(entry);
+            }
+        });
+        List<PostHistoryLog> ranking = new ArrayList<>(heap);
+        ranking.sort(Comparator.comparing(PostHistoryLog::getPopularityScore).reversed());
+        return List.copyOf(ranking);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // 고정 크기 링 버퍼: 칸마다 해당 시간 단위(epoch)의 버킷을 보관하고, 오래된 칸은 새 버킷으로 교체
+    private static class BucketRing {
+        private final String unit;
+        private final long unitMillis;
+        private final AtomicReferenceArray<Bucket> slots;
+
+        BucketRing(String unit, long unitMillis, int size) {
+            this.unit = unit;
+            this.unitMillis = unitMillis;
+            this.slots = new AtomicReferenceArray<>(size);
+        }
+
+        Bucket bucketAt(long millis) {
+            long epoch = millis / unitMillis;
+            int index = (int) (epoch % slots.length());
+            while (true) {
+                Bucket current = slots.get(index);
+                if (current != null && current.epoch == epoch) {
+                    return current;
+                }
+                if (current != null && current.epoch > epoch) {
+                    // 링 범위를 벗어난 과거 시각
+                    return null;
+                }
+                Bucket fresh = new Bucket(unit, unitMillis, epoch);
+                if (slots.compareAndSet(index, current, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        List<Bucket> bucketsBetween(long fromEpoch, long toEpoch) {
+            List<Bucket> buckets = new ArrayList<>();
+            for (int i = 0; i < slots.length(); i++) {
+                Bucket bucket = slots.get(i);
+                if (bucket != null && bucket.epoch >= fromEpoch && bucket.epoch <= toEpoch) {
+                    buckets.add(bucket);
+                }
+            }
+            return buckets;
+        }
+    }
+
+    private static class Bucket {
+        private final String unit;
+        private final long unitMillis;
+        private final long epoch;
+        // postId -> [조회수, 댓글 수, DB에 저장된 조회수, DB에 저장된 댓글 수]
+        private final Map<String, AtomicLongArray> counts = new ConcurrentHashMap<>();
+
+        Bucket(String unit, long unitMillis, long epoch) {
+            this.unit = unit;
+            this.unitMillis = unitMillis;
+            this.epoch = epoch;
+        }
+    }
+
+    private record PendingDelta(Bucket bucket, AtomicLongArray counts, long views, long comments) {
+    }
+
+    private record RankingSnapshot(List<PostHistoryLog> ranking, long computedAt) {
+    }
+}
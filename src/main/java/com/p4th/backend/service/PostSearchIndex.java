@@ -0,0 +1,394 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.Post;
+import com.p4th.backend.mapper.PostMapper;
+import com.p4th.backend.util.KoreanNgramAnalyzer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목, 본문(태그 제거 텍스트), 작성자 닉네임에 대한 메모리 내 역색인 (KoreanNgramAnalyzer로 분석).
+ * 게시글 등록/수정/삭제 시 PostService에서 갱신하고, SchedulerController에서 주기적으로 전체 재구성한다.
+ * 최초 재구성이 끝나기 전(isReady() == false)에는 SearchService가 기존 DB 검색을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // 필드별 가중치: 제목 > 닉네임 > 본문
+    private static final int TITLE_WEIGHT = 3;
+    private static final int NICKNAME_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+
+    private final PostMapper postMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    // 전체 재구성 중인 색인과, 재구성 중 개별 갱신된 게시글 ID (일괄 적재 시 덮어쓰지 않음)
+    private Index rebuilding;
+    private final Set<String> touchedDuringRebuild = new HashSet<>();
+    private volatile boolean ready;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final String postId;
+        private final String userId;    // 작성자 ID (캐시된 결과의 사용자별 차단 필터링용)
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHits {
+        private final List<Hit> hits;   // 관련도 순 검색 결과 (요청한 범위)
+        private final long total;       // 조건에 맞는 전체 게시글 수
+
+        public List<String> getPostIds() {
+            return hits.stream().map(Hit::getPostId).toList();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시글을 색인에 추가하거나 갱신한다.
+     * @param post postId, boardId, userId, nickname, title, content(HTML), createdAt 을 채운 게시글
+     */
+    public void upsert(Post post) {
+        Document document = Document.from(post);
+        lock.writeLock().lock();
+        try {
+            index.add(document);
+            if (rebuilding != null) {
+                rebuilding.add(document);
+                touchedDuringRebuild.add(document.postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String postId) {
+        lock.writeLock().lock();
+        try {
+            index.remove(postId);
+            if (rebuilding != null) {
+                rebuilding.remove(postId);
+                touchedDuringRebuild.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어를 포함하는 게시글을 관련도(필드 가중치 * IDF) 내림차순, 같으면 최신순으로 조회한다.
+     * @param boardId 게시판 ID (null이면 전체 게시판)
+     * @param blockedUserIds 결과에서 제외할 작성자 ID
+     */
+    public SearchHits search(String query, String boardId, Set<String> blockedUserIds, int offset, int limit) {
+        Set<String> terms = analyzeQuery(query);
+        if (terms.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(terms, boardId, blockedUserIds, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 분석 결과가 같은 검색어는 같은 문자열이 되도록 정규화 (검색 결과 캐시 키)
+     */
+    public String normalizeQuery(String query) {
+        return String.join(" ", analyzeQuery(query));
+    }
+
+    private Set<String> analyzeQuery(String query) {
+        return new LinkedHashSet<>(KoreanNgramAnalyzer.analyzeForQuery(query));
+    }
+
+    /**
+     * DB의 전체 게시글로 색인을 새로 만든 뒤 교체한다. 재구성 중의 개별 갱신은 새 색인에도 함께 반영된다.
+     */
+    public void rebuild() {
+        Index fresh = new Index();
+        lock.writeLock().lock();
+        try {
+            rebuilding = fresh;
+            touchedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            String afterPostId = null;
+            int count = 0;
+            while (true) {
+                List<Post> posts = postMapper.findPostsForSearchIndex(afterPostId, REBUILD_BATCH_SIZE);
+                if (posts.isEmpty()) {
+                    break;
+                }
+                List<Document> documents = posts.stream().map(Document::from).toList();
+                lock.writeLock().lock();
+                try {
+                    for (Document document : documents) {
+                        if (!touchedDuringRebuild.contains(document.postId)) {
+                            fresh.add(document);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                count += posts.size();
+                afterPostId = posts.get(posts.size() - 1).getPostId();
+            }
+            lock.writeLock().lock();
+            try {
+                index = fresh;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("검색 색인 재구성 완료: 게시글 {}건", count);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = null;
+                touchedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // 색인에 넣을 게시글: 메타 정보와 분석된 단어별 가중치 (색인에 추가할 때만 쓰이고 보관하지 않음)
+    private static class Document {
+        private final String postId;
+        private final String boardId;
+        private final String userId;
+        private final LocalDateTime createdAt;
+        private String[] terms;
+        private short[] weights;
+
+        private Document(Post post) {
+            this.postId = post.getPostId();
+            this.boardId = post.getBoardId();
+            this.userId = post.getUserId();
+            this.createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        }
+
+        static Document from(Post post) {
+            Map<String, Integer> termWeights = new HashMap<>();
+            addTerms(termWeights, KoreanNgramAnalyzer.analyzeForIndex(post.getTitle()), TITLE_WEIGHT);
+            addTerms(termWeights, KoreanNgramAnalyzer.analyzeForIndex(post.getNickname()), NICKNAME_WEIGHT);
+            addTerms(termWeights, KoreanNgramAnalyzer.analyzeHtmlForIndex(post.getContent()), BODY_WEIGHT);
+
+            Document document = new Document(post);
+            document.terms = new String[termWeights.size()];
+            document.weights = new short[termWeights.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termWeights.entrySet()) {
+                document.terms[i] = entry.getKey();
+                document.weights[i] = (short) Math.min(entry.getValue(), Short.MAX_VALUE);
+                i++;
+            }
+            return document;
+        }
+
+        private static void addTerms(Map<String, Integer> termWeights, List<String> terms, int weight) {
+            for (String term : terms) {
+                termWeights.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    // 색인에 보관하는 문서 정보: 삭제 시 게시물 목록을 찾기 위한 단어 번호만 가짐
+    private record DocumentMeta(String postId, String boardId, String userId, LocalDateTime createdAt, int[] termIds) {
+    }
+
+    /**
+     * 단어 사전과 int 문서 번호 기반 역색인.
+     * 단어 문자열은 사전에 한 번만 보관하고, 단어별 게시물 목록은 문서 번호 오름차순 int[] 와 short 가중치 배열로 보관한다.
+     * 문서 번호는 추가할 때마다 증가하므로 새 문서는 목록 끝에 붙이기만 하면 정렬이 유지된다
+     * (수정/삭제로 비는 번호와 더 이상 쓰이지 않는 단어는 주기적인 전체 재구성 때 정리됨).
+     */
+    private static class Index {
+        private final Map<String, Integer> termIds = new HashMap<>();
+        private final List<Posting> postings = new ArrayList<>();
+        private final Map<String, Integer> docIds = new HashMap<>();
+        private DocumentMeta[] documents = new DocumentMeta[1024];
+        private int nextDocId;
+
+        void add(Document document) {
+            remove(document.postId);
+            int docId = nextDocId++;
+            if (docId == documents.length) {
+                documents = Arrays.copyOf(documents, documents.length * 2);
+            }
+            int[] ids = new int[document.terms.length];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = termIds.computeIfAbsent(document.terms[i], term -> {
+                    postings.add(new Posting());
+                    return postings.size() - 1;
+                });
+                postings.get(ids[i]).append(docId, document.weights[i]);
+            }
+            documents[docId] = new DocumentMeta(document.postId, document.boardId, document.userId, document.createdAt, ids);
+            docIds.put(document.postId, docId);
+        }
+
+        void remove(String postId) {
+            Integer docId = docIds.remove(postId);
+            if (docId == null) {
+                return;
+            }
+            for (int termId : documents[docId].termIds()) {
+                postings.get(termId).remove(docId);
+            }
+            documents[docId] = null;
+        }
+
+        SearchHits search(Set<String> terms, String boardId, Set<String> blockedUserIds, int offset, int limit) {
+            List<Posting> lists = new ArrayList<>();
+            List<Double> idfs = new ArrayList<>();
+            for (String term : terms) {
+                Integer termId = termIds.get(term);
+                Posting posting = termId == null ? null : postings.get(termId);
+                if (posting == null || posting.size == 0) {
+                    return new SearchHits(List.of(), 0);
+                }
+                lists.add(posting);
+                idfs.add(Math.log(1 + (double) docIds.size() / posting.size));
+            }
+            // 가장 짧은 목록을 기준으로 나머지 목록과 교집합 (목록이 정렬되어 있으므로 목록별 위치는 앞으로만 이동)
+            int smallest = 0;
+            for (int i = 1; i < lists.size(); i++) {
+                if (lists.get(i).size < lists.get(smallest).size) {
+                    smallest = i;
+                }
+            }
+            Posting base = lists.get(smallest);
+            int[] cursors = new int[lists.size()];
+
+            Comparator<ScoredDocument> ranking = Comparator
+                    .comparingDouble((ScoredDocument scored) -> scored.score)
+                    .thenComparing(scored -> scored.document.createdAt())
+                    .thenComparing(scored -> scored.document.postId());
+            int keep = offset + limit;
+            PriorityQueue<ScoredDocument> top = new PriorityQueue<>(ranking);
+            long total = 0;
+            for (int n = 0; n < base.size; n++) {
+                int docId = base.docIds[n];
+                DocumentMeta document = documents[docId];
+                if (boardId != null && !boardId.equals(document.boardId())) {
+                    continue;
+                }
+                if (blockedUserIds.contains(document.userId())) {
+                    continue;
+                }
+                double score = base.weights[n] * idfs.get(smallest);
+                boolean matchesAll = true;
+                for (int i = 0; i < lists.size(); i++) {
+                    if (i == smallest) {
+                        continue;
+                    }
+                    Posting posting = lists.get(i);
+                    cursors[i] = posting.seek(docId, cursors[i]);
+                    if (cursors[i] == posting.size || posting.docIds[cursors[i]] != docId) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += posting.weights[cursors[i]] * idfs.get(i);
+                }
+                if (!matchesAll) {
+                    continue;
+                }
+                total++;
+                ScoredDocument scored = new ScoredDocument(document, score);
+                if (top.size() < keep) {
+                    top.add(scored);
+                } else if (keep > 0 && ranking.compare(scored, top.peek()) > 0) {
+                    top.poll();
+                    top.add(scored);
+                }
+            }
+
+            List<ScoredDocument> sorted = new ArrayList<>(top);
+            sorted.sort(ranking.reversed());
+            List<Hit> hits = sorted.stream()
+                    .skip(offset)
+                    .map(scored -> new Hit(scored.document.postId(), scored.document.userId()))
+                    .toList();
+            return new SearchHits(hits, total);
+        }
+    }
+
+    // 한 단어의 게시물 목록: 문서 번호 오름차순 배열과 같은 위치의 가중치
+    private static class Posting {
+        private int[] docIds = new int[2];
+        private short[] weights = new short[2];
+        private int size;
+
+        void append(int docId, short weight) {
+            if (size == docIds.length) {
+                int capacity = size + (size >> 1) + 1;
+                docIds = Arrays.copyOf(docIds, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            docIds[size] = docId;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int docId) {
+            int i = Arrays.binarySearch(docIds, 0, size, docId);
+            if (i < 0) {
+                return;
+            }
+            System.arraycopy(docIds, i + 1, docIds, i, size - i - 1);
+            System.arraycopy(weights, i + 1, weights, i, size - i - 1);
+            size--;
+            if (size < docIds.length / 4) {
+                docIds = Arrays.copyOf(docIds, Math.max(2, size * 2));
+                weights = Arrays.copyOf(weights, docIds.length);
+            }
+        }
+
+        // from 이후에서 docId 이상인 첫 위치 (간격을 두 배씩 늘려 범위를 찾은 뒤 이진 탐색)
+        int seek(int docId, int from) {
+            int bound = 1;
+            while (from + bound < size && docIds[from + bound] < docId) {
+                bound <<= 1;
+            }
+            int low = from + (bound >> 1);
+            int high = Math.min(from + bound + 1, size);
+            int i = Arrays.binarySearch(docIds, low, high, docId);
+            return i >= 0 ? i : -i - 1;
+        }
+    }
+
+    private record ScoredDocument(DocumentMeta document, double score) {
+    }
+}
@@ -2,19 +2,29 @@ package com.p4th.backend.service;
 
 import com.p4th.backend.domain.*;
 import com.p4th.backend.dto.response.post.PostListResponse;
+import com.p4th.backend.dto.response.post.PostSliceResponse;
 import com.p4th.backend.mapper.*;
 import com.p4th.backend.common.exception.CustomException;
 import com.p4th.backend.common.exception.ErrorCode;
 import com.p4th.backend.repository.PostRepository;
 import com.p4th.backend.util.HtmlImageUtils;
+import com.p4th.backend.util.HtmlSummaryExtractor;
+import com.p4th.backend.util.PostCursorUtil;
 import com.p4th.backend.util.ULIDUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -26,16 +36,29 @@ public class PostService {
     private final S3Service s3Service;
     private final ScrapMapper scrapMapper;
     private final NotificationService notificationService;
+    private final PopularityCounterService popularityCounterService;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final PostViewRecorder postViewRecorder;
+    private final BlockedUsersCache blockedUsersCache;
+    private final PostSearchIndex postSearchIndex;
+    private final SearchResultCache searchResultCache;
+    private final SearchSuggestService searchSuggestService;
+    private final BoardTreeCache boardTreeCache;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // 게시판별 최근 게시글 수(board.recent_post_count) 집계 기간
+    public static final int RECENT_POST_DAYS = 7;
 
     @Transactional(readOnly = true)
     public Page<PostListResponse> getPostsByBoard(String boardId, String userId, Pageable pageable) {
         try {
-            // userId가 제공되면 차단 조건 적용, 없으면 기존 메서드 호출
+            // 차단한 사용자가 있으면 차단 조건 적용, 없으면(비로그인 포함) 기존 메서드 호출
+            Set<String> blockedUserIds = blockedUsersCache.getBlockedUserIds(userId);
             Page<Post> posts;
-            if (userId == null || userId.trim().isEmpty()) {
+            if (blockedUserIds.isEmpty()) {
                 posts = postRepository.findByBoardId(boardId, pageable);
             } else {
-                posts = postRepository.findByBoardIdExcludingBlocked(boardId, userId, pageable);
+                posts = postRepository.findByBoardIdAndUserIdNotIn(boardId, blockedUserIds, pageable);
             }
             return posts.map(PostListResponse::from);
         } catch (CustomException ce) {
@@ -45,19 +68,61 @@ public class PostService {
         }
     }
 
-    @Transactional
-    public Post getPostDetail(String postId, String userId) {
+    /**
+     * 게시글 목록 커서 페이지 조회. OFFSET 없이 (created_at, post_id) 기준으로 이어서 조회한다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param includeTotal true이면 전체 게시글 수를 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponse getPostsByBoardCursor(String boardId, String userId, String cursor, int size, boolean includeTotal) {
         try {
-            // 최근 본 게시글 기록 삽입
-            if (userId != null && !userId.trim().isEmpty()) {
-                postMapper.insertPostView(userId, postId);
+            if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+                throw new CustomException(ErrorCode.INVALID_INPUT, "페이지 크기는 1 ~ " + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+            }
+            Set<String> blockedUserIds = blockedUsersCache.getBlockedUserIds(userId);
+            PostCursorUtil.PostCursor decoded = PostCursorUtil.decode(cursor);
+            Pageable pageable = PageRequest.of(0, size);
+            Slice<Post> slice = blockedUserIds.isEmpty()
+                    ? postRepository.findSliceByBoardIdAfter(boardId, decoded.getCreatedAt(), decoded.getPostId(), pageable)
+                    : postRepository.findSliceByBoardIdAfterExcluding(boardId, blockedUserIds, decoded.getCreatedAt(), decoded.getPostId(), pageable);
+
+            PostSliceResponse response = new PostSliceResponse();
+            response.setContent(slice.getContent().stream().map(PostListResponse::from).toList());
+            response.setHasNext(slice.hasNext());
+            if (slice.hasNext()) {
+                response.setNextCursor(PostCursorUtil.encode(slice.getContent().get(slice.getNumberOfElements() - 1)));
+            }
+            if (includeTotal) {
+                response.setTotalElements(blockedUserIds.isEmpty()
+                        ? postRepository.countByBoardId(boardId)
+                        : postRepository.countByBoardIdAndUserIdNotIn(boardId, blockedUserIds));
             }
+            return response;
+        } catch (CustomException ce) {
+            throw ce;
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "게시글 목록 조회 중 오류: " + e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Post getPostDetail(String postId, String userId) {
+        try {
             Post post = postMapper.getPostDetail(postId, userId);
             if (post == null) {
                 throw new CustomException(ErrorCode.POST_NOT_FOUND);
             }
-            // 스크랩 여부 체크: 로그인한 사용자인 경우만 처리
+            // 아직 DB에 반영되지 않은 조회수 증가분을 더해 응답
+            post.setViewCount(post.getViewCount() + (int) viewCountAccumulator.getPendingDelta(postId));
+            // 로그인한 사용자인 경우만 처리
             if (userId != null && !userId.trim().isEmpty()) {
+                // 최근 본 게시글 기록은 큐에 넣고 백그라운드에서 일괄 저장.
+                // 실시간 인기 집계에는 post_view 기록으로 받아들여진 조회만 반영 (짧은 시간 안의 재조회는 제외)
+                if (postViewRecorder.record(userId, postId)) {
+                    popularityCounterService.recordView(postId);
+                }
+                // 스크랩 여부 체크
                 Scrap scrap = scrapMapper.getScrapByPostAndUser(postId, userId);
                 if (scrap != null) {
                     post.setScrapped(true);
@@ -103,16 +168,25 @@ public class PostService {
             post.setUserId(userId);
             post.setTitle(title);
             post.setContent(processedContent);
+            applyContentSummary(post);
             post.setStatus(PostStatus.NORMAL);
             int inserted = postMapper.insertPost(post);
             if (inserted != 1) {
                 throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "게시글 등록 실패");
             }
+            postMapper.adjustBoardPostCount(boardId, 1, 1);
+            post.setNickname(user.getNickname());
+            post.setCreatedAt(LocalDateTime.now());
+            afterCommit(() -> {
+                postSearchIndex.upsert(post);
+                searchResultCache.invalidateBoard(post.getBoardId());
+                searchSuggestService.onPostRegistered(post.getNickname(), post.getTitle());
+            });
 
             // 만약 해당 게시판이 공지 게시판이면 공지 알림 생성
-            Board board = postMapper.getBoardWithCategory(boardId);
+            Board board = boardTreeCache.getBoard(boardId);
             if (board != null && board.getCategory() != null && board.getCategory().isNotice()) {
-                notificationService.notifyNoticePost(postId, userId, processedContent);
+                notificationService.notifyNoticePost(postId, userId, title, processedContent);
             }
 
             return postId;
@@ -140,10 +214,19 @@ public class PostService {
             post.setUserId(userId);
             post.setTitle(title);
             post.setContent(processedContent);
+            applyContentSummary(post);
             int updated = postMapper.updatePost(post);
             if (updated != 1) {
                 throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "게시글 수정 실패");
             }
+            post.setBoardId(existing.getBoardId());
+            post.setNickname(existing.getNickname());
+            post.setCreatedAt(existing.getCreatedAt());
+            afterCommit(() -> {
+                postSearchIndex.upsert(post);
+                searchResultCache.invalidateBoard(post.getBoardId());
+                searchSuggestService.onPostTitleChanged(existing.getTitle(), post.getTitle());
+            });
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
@@ -172,6 +255,14 @@ public class PostService {
             if (deleted != 1) {
                 throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "게시글 삭제 실패");
             }
+            boolean recent = post.getCreatedAt() != null
+                    && post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(RECENT_POST_DAYS));
+            postMapper.adjustBoardPostCount(post.getBoardId(), -1, recent ? -1 : 0);
+            afterCommit(() -> {
+                postSearchIndex.remove(postId);
+                searchResultCache.invalidateBoard(post.getBoardId());
+                searchSuggestService.onPostDeleted(post.getNickname(), post.getTitle());
+            });
         } catch (CustomException ce) {
             throw ce;
         } catch (Exception e) {
@@ -179,16 +270,49 @@ public class PostService {
         }
     }
 
-    @Transactional
     public void incrementPostViewCount(String postId) {
-        try {
-            // 조회수 증가
-            int updated = postMapper.incrementViewCount(postId);
-            if (updated != 1) {
-                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "조회수 증가 실패");
-            }
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "조회수 증가 중 오류: " + e.getMessage());
+        // 없는 게시글 ID가 누적되지 않도록 확인 (이미 누적 중인 게시글은 확인을 생략)
+        if (!viewCountAccumulator.isTracked(postId) && !postMapper.existsPost(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+        // 조회수 증가: 메모리에 누적 후 SchedulerController에서 주기적으로 일괄 반영
+        viewCountAccumulator.increment(postId);
+    }
+
+    // 트랜잭션이 커밋된 뒤에 실행 (롤백된 변경이 검색 색인 등 메모리 상태에 반영되지 않도록)
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
         }
     }
+
+    /**
+     * 요약 정보가 없는 기존 게시글에 대해 목록용 요약 정보를 채운다.
+     * @param batchSize 한 번에 처리할 게시글 수
+     * @return 처리한 게시글 수
+     */
+    @Transactional
+    public int backfillContentSummaries(int batchSize) {
+        List<Post> posts = postMapper.findPostsWithoutSummary(batchSize);
+        for (Post post : posts) {
+            applyContentSummary(post);
+            postMapper.updatePostSummary(post);
+        }
+        return posts.size();
+    }
+
+    // 목록 화면용 요약 정보(본문 미리보기, 썸네일, 이미지 개수)를 본문 저장 시점에 한 번만 계산한다.
+    private void applyContentSummary(Post post) {
+        HtmlSummaryExtractor.HtmlSummary summary = HtmlSummaryExtractor.extract(post.getContent(), 100);
+        post.setContentSummary(summary.getPlainText());
+        post.setThumbnailUrl(summary.getThumbnailUrl());
+        post.setImageCount(summary.getImageCount());
+    }
 }
@@ -0,0 +1,136 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.PostView;
+import com.p4th.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회 기록을 요청 스레드에서 바로 INSERT하지 않고 고정 크기 큐에 담아두었다가
+ * 백그라운드에서 multi-row INSERT로 일괄 저장한다.
+ *   - post_view: 인기 게시글 집계용 조회 기록
+ *   - recent_post_view: 메뉴의 최근 본 게시글 (사용자별 최신 RECENT_VIEW_LIMIT개만 유지)
+ * 큐가 가득 찬 경우 요청 스레드를 막지 않고 설정된 정책(overflow-policy)에 따라 기록 하나를 버린다.
+ */
+@Slf4j
+@Service
+public class PostViewRecorder {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,    // 가장 오래된 기록을 버리고 새 기록을 넣음
+        DROP_NEWEST     // 새 기록을 버림
+    }
+
+    private static final int INSERT_BATCH_SIZE = 500;
+    // 사용자별로 보관하는 최근 본 게시글 수 (메뉴에는 최대 15개 노출)
+    private static final int RECENT_VIEW_LIMIT = 16;
+
+    private final PostMapper postMapper;
+    private final BlockingQueue<PostView> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final long dedupWindowMillis;
+    // 같은 사용자의 같은 게시글 조회를 짧은 시간 안에 여러 번 큐에 넣지 않기 위한 최근 기록 시각
+    private final Map<String, Long> recentlyQueued = new ConcurrentHashMap<>();
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    public PostViewRecorder(PostMapper postMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${p4th.post-view.queue-capacity:10000}") int queueCapacity,
+                            @Value("${p4th.post-view.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                            @Value("${p4th.post-view.dedup-window-seconds:10}") long dedupWindowSeconds) {
+        this.postMapper = postMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.dedupWindowMillis = dedupWindowSeconds * 1000;
+        Gauge.builder("post.view.log.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 최근 본 게시글 기록 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("post.view.log.dropped")
+                .description("큐가 가득 차 버려진 최근 본 게시글 기록 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("post.view.log.written")
+                .description("저장된 최근 본 게시글 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록을 큐에 넣는다. 요청 스레드를 절대 블로킹하지 않는다.
+     * @return 조회 기록으로 받아들였으면 true (dedup-window 안의 재조회이거나 큐가 가득 차 버려진 경우 false)
+     */
+    public boolean record(String userId, String postId) {
+        long now = System.currentTimeMillis();
+        String key = userId + ":" + postId;
+        Long last = recentlyQueued.get(key);
+        if (last != null && now - last < dedupWindowMillis) {
+            return false;
+        }
+        recentlyQueued.put(key, now);
+
+        PostView view = new PostView(userId, postId, LocalDateTime.now());
+        if (queue.offer(view)) {
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            queue.poll();
+            if (queue.offer(view)) {
+                droppedCounter.increment();
+                return true;
+            }
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    /**
+     * 큐에 쌓인 기록을 모두 꺼내 저장한다. post_view 에는 받아들인 조회를 모두 저장하고,
+     * 최근 본 게시글은 같은 사용자/게시글 기록을 가장 최근 조회 시각 하나로 합쳐 저장한다.
+     */
+    public synchronized void drain() {
+        List<PostView> drained = new ArrayList<>();
+        while (queue.drainTo(drained, INSERT_BATCH_SIZE) > 0) {
+            Map<String, PostView> merged = new LinkedHashMap<>();
+            for (PostView view : drained) {
+                merged.put(view.getUserId() + ":" + view.getPostId(), view);
+            }
+            try {
+                postMapper.insertPostViews(drained);
+                List<PostView> views = new ArrayList<>(merged.values());
+                postMapper.upsertRecentPostViews(views);
+                Set<String> userIds = new HashSet<>();
+                views.forEach(view -> userIds.add(view.getUserId()));
+                postMapper.trimRecentPostViews(userIds, RECENT_VIEW_LIMIT);
+                writtenCounter.increment(drained.size());
+            } catch (Exception e) {
+                // 최근 본 게시글 기록은 유실되어도 치명적이지 않으므로 재시도하지 않음
+                droppedCounter.increment(drained.size());
+                log.warn("최근 본 게시글 기록 저장 실패 ({}건): {}", drained.size(), e.getMessage());
+            }
+            drained.clear();
+        }
+
+        long cutoff = System.currentTimeMillis() - dedupWindowMillis;
+        recentlyQueued.values().removeIf(queuedAt -> queuedAt < cutoff);
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        drain();
+    }
+}
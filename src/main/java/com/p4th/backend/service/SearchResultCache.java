@@ -0,0 +1,108 @@
+package com.p4th.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시. (정규화된 검색어, 게시판 ID) 별로 관련도 순 상위 결과(게시글 ID, 작성자 ID)를 LRU로 보관한다.
+ * 사용자별 차단 필터링과 페이지 나누기는 캐시 조회 후 SearchService에서 처리하므로 모든 사용자가 같은 항목을 공유한다.
+ * 게시글 등록/수정/삭제 시 해당 게시판과 전체 게시판 검색의 세대(generation) 번호를 올려 이전 결과를 무효화한다.
+ */
+@Service
+public class SearchResultCache {
+
+    private static final String ALL_BOARDS = "*";
+
+    private final Map<String, Entry> cache;
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final Map<String, AtomicLong> boardGenerations = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${p4th.search-cache.max-size:1000}") int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        Gauge.builder("search.cache.size", this, SearchResultCache::size)
+                .description("캐시된 검색 결과 수")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("search.cache.requests").tag("result", "hit")
+                .description("검색 결과 캐시 조회")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("search.cache.requests").tag("result", "miss")
+                .description("검색 결과 캐시 조회")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과를 반환하고, 없거나 무효화된 경우 loader로 계산하여 저장한다.
+     * @param normalizedQuery PostSearchIndex.normalizeQuery 로 정규화한 검색어
+     * @param boardId 게시판 ID (null이면 전체 게시판)
+     */
+    public PostSearchIndex.SearchHits get(String normalizedQuery, String boardId, Supplier<PostSearchIndex.SearchHits> loader) {
+        String scope = boardId == null ? ALL_BOARDS : boardId;
+        String key = scope + "\u0000" + normalizedQuery;
+        // 계산 전에 세대 번호를 읽어, 계산 도중 변경된 게시글이 있으면 다음 조회에서 다시 계산되도록 함
+        long generation = currentGeneration(scope);
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null && entry.generation == generation) {
+                hitCounter.increment();
+                return entry.hits;
+            }
+        }
+        missCounter.increment();
+        PostSearchIndex.SearchHits hits = loader.get();
+        synchronized (cache) {
+            cache.put(key, new Entry(hits, generation));
+        }
+        return hits;
+    }
+
+    /**
+     * 게시글 변경 시 호출. 해당 게시판 검색과 전체 게시판 검색 결과를 무효화한다.
+     */
+    public void invalidateBoard(String boardId) {
+        globalGeneration.incrementAndGet();
+        if (boardId != null) {
+            boardGenerations.computeIfAbsent(boardId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        globalGeneration.incrementAndGet();
+    }
+
+    private long currentGeneration(String scope) {
+        if (ALL_BOARDS.equals(scope)) {
+            return globalGeneration.get();
+        }
+        AtomicLong generation = boardGenerations.get(scope);
+        return generation == null ? 0 : generation.get();
+    }
+
+    private int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private record Entry(PostSearchIndex.SearchHits hits, long generation) {
+    }
+}
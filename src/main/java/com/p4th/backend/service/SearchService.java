@@ -4,10 +4,8 @@ import com.p4th.backend.common.exception.CustomException;
 import com.p4th.backend.common.exception.ErrorCode;
 import com.p4th.backend.dto.response.search.SearchResponse;
 import com.p4th.backend.domain.Post;
-import com.p4th.backend.mapper.BlockMapper;
 import com.p4th.backend.repository.SearchRepository;
 import com.p4th.backend.util.HtmlContentUtils;
-import com.p4th.backend.util.HtmlImageUtils;
 import com.p4th.backend.util.RelativeTimeFormatter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,35 +13,41 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class SearchService {
 
     private final SearchRepository searchRepository;
-    private final BlockMapper blockMapper;
+    private final BlockedUsersCache blockedUsersCache;
+    private final PostSearchIndex postSearchIndex;
+    private final SearchResultCache searchResultCache;
+
+    // 검색어별로 캐시하는 상위 결과 수
+    private static final int MAX_CACHED_HITS = 1000;
 
     public Page<SearchResponse.SearchResult> search(String boardId, String userId, String query, Pageable pageable) {
         try {
+            // 차단한 작성자의 게시글은 쿼리에서 제외하여 페이지 크기와 전체 건수를 그대로 유지
+            // (차단한 유저가 없거나 비로그인이면 필터링하지 않음)
+            Set<String> blockedUserIds = blockedUsersCache.getBlockedUserIds(userId);
+            boolean allBoards = boardId == null || boardId.trim().isEmpty();
             Page<Post> posts;
-            if (boardId == null || boardId.trim().isEmpty()) {
-                posts = searchRepository.searchPosts(query, pageable);
+            if (postSearchIndex.isReady()) {
+                posts = searchIndex(allBoards ? null : boardId, blockedUserIds, query, pageable);
+            } else if (blockedUserIds.isEmpty()) {
+                posts = allBoards
+                        ? searchRepository.searchPosts(query, pageable)
+                        : searchRepository.searchPostsByBoard(boardId, query, pageable);
             } else {
-                posts = searchRepository.searchPostsByBoard(boardId, query, pageable);
-            }
-
-            // userId 존재하면, 차단된 작성자의 게시글을 필터링
-            if (userId != null && !userId.trim().isEmpty()) {
-                List<String> blockedUserIds = blockMapper.findBlockedByUserId(userId);
-                // 차단한 유저가 없으면 필터링하지 않음
-                if (blockedUserIds != null && !blockedUserIds.isEmpty()) {
-                    List<Post> filteredPosts = posts.getContent().stream()
-                            .filter(post -> !blockedUserIds.contains(post.getUserId()))
-                            .collect(Collectors.toList());
-                    posts = new PageImpl<>(filteredPosts, pageable, filteredPosts.size());
-                }
+                posts = allBoards
+                        ? searchRepository.searchPostsExcluding(query, blockedUserIds, pageable)
+                        : searchRepository.searchPostsByBoardExcluding(boardId, query, blockedUserIds, pageable);
             }
 
             return posts.map(post -> {
@@ -61,8 +65,8 @@ public class SearchService {
                 result.setBoardName(post.getBoard() != null ? post.getBoard().getBoardName() : null);
                 result.setViewCount(post.getViewCount());
                 result.setCommentCount(post.getCommentCount());
-                result.setImageCount(HtmlImageUtils.countInlineImages(post.getContent()));
-                result.setImageUrl(HtmlImageUtils.extractFirstImageUrl(post.getContent()));
+                result.setImageCount(post.getImageCount());
+                result.setImageUrl(post.getThumbnailUrl());
                 result.setCreatedAt(post.getCreatedAt() != null ?
                         RelativeTimeFormatter.formatRelativeTime(post.getCreatedAt()) : null);
                 return result;
@@ -73,4 +77,41 @@ public class SearchService {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "검색 처리 중 오류 발생: " + e.getMessage());
         }
     }
+
+    // 메모리 내 역색인에서 관련도 순으로 게시글 ID를 찾고, 해당 페이지의 게시글만 DB에서 조회
+    // 검색 결과는 사용자와 무관하게 캐시하고, 차단 필터링과 페이지 나누기는 캐시 조회 후 처리
+    private Page<Post> searchIndex(String boardId, Set<String> blockedUserIds, String query, Pageable pageable) {
+        PostSearchIndex.SearchHits cached = searchResultCache.get(postSearchIndex.normalizeQuery(query), boardId,
+                () -> postSearchIndex.search(query, boardId, Set.of(), 0, MAX_CACHED_HITS));
+        boolean complete = cached.getTotal() <= cached.getHits().size();
+        List<PostSearchIndex.Hit> visible = blockedUserIds.isEmpty()
+                ? cached.getHits()
+                : cached.getHits().stream().filter(hit -> !blockedUserIds.contains(hit.getUserId())).toList();
+        int offset = (int) pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        List<String> postIds;
+        long total;
+        if (complete || (blockedUserIds.isEmpty() && offset + size <= visible.size())) {
+            postIds = visible.subList(Math.min(offset, visible.size()), Math.min(offset + size, visible.size())).stream()
+                    .map(PostSearchIndex.Hit::getPostId)
+                    .toList();
+            total = complete ? visible.size() : cached.getTotal();
+        } else {
+            // 캐시 범위(상위 MAX_CACHED_HITS건)를 벗어나는 페이지는 색인에서 직접 조회
+            PostSearchIndex.SearchHits hits = postSearchIndex.search(query, boardId, blockedUserIds, offset, size);
+            postIds = hits.getPostIds();
+            total = hits.getTotal();
+        }
+
+        Map<String, Post> postsById = new HashMap<>();
+        for (Post post : searchRepository.findAllById(postIds)) {
+            postsById.put(post.getPostId(), post);
+        }
+        List<Post> ordered = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, pageable, total);
+    }
 }
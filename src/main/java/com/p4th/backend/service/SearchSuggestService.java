@@ -0,0 +1,175 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.Post;
+import com.p4th.backend.dto.response.search.SuggestResponse;
+import com.p4th.backend.mapper.AuthMapper;
+import com.p4th.backend.mapper.PostMapper;
+import com.p4th.backend.util.PrefixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성. 게시글 제목(같은 제목의 게시글 수)과 닉네임(작성 게시글 수)을 가중치로 하는
+ * 접두어 트라이 두 개를 메모리에 두고 상위 완성어를 반환한다.
+ * 게시글 등록/수정/삭제, 회원가입, 닉네임 변경 시 개별 갱신하고, SchedulerController에서 주기적으로 전체 재구성한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchSuggestService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 자동완성 키로 사용하는 최대 길이 (그 이상은 접두어 입력으로 구분할 필요가 없음)
+    private static final int MAX_KEY_LENGTH = 50;
+
+    private final PostMapper postMapper;
+    private final AuthMapper authMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private PrefixTrie titles = new PrefixTrie();
+    private PrefixTrie nicknames = new PrefixTrie();
+
+    /**
+     * @param query 입력 중인 검색어 (접두어)
+     * @param limit 제목/닉네임 각각의 최대 개수
+     */
+    public SuggestResponse suggest(String query, int limit) {
+        SuggestResponse response = new SuggestResponse();
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            response.setTitles(List.of());
+            response.setNicknames(List.of());
+            return response;
+        }
+        lock.readLock().lock();
+        try {
+            response.setTitles(titles.topK(prefix, limit));
+            response.setNicknames(nicknames.topK(prefix, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return response;
+    }
+
+    public void onPostRegistered(String nickname, String title) {
+        lock.writeLock().lock();
+        try {
+            titles.add(normalize(title), title, 1);
+            nicknames.add(normalize(nickname), nickname, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onPostTitleChanged(String oldTitle, String newTitle) {
+        if (normalize(oldTitle).equals(normalize(newTitle))) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            titles.add(normalize(oldTitle), oldTitle, -1);
+            titles.add(normalize(newTitle), newTitle, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onPostDeleted(String nickname, String title) {
+        String nicknameKey = normalize(nickname);
+        lock.writeLock().lock();
+        try {
+            titles.add(normalize(title), title, -1);
+            // 게시글이 없는 회원도 닉네임 자동완성에 남도록 기본 가중치 1은 유지
+            if (nicknames.getWeight(nicknameKey) > 1) {
+                nicknames.add(nicknameKey, nickname, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onUserRegistered(String nickname) {
+        lock.writeLock().lock();
+        try {
+            nicknames.add(normalize(nickname), nickname, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void onNicknameChanged(String oldNickname, String newNickname) {
+        String oldKey = normalize(oldNickname);
+        lock.writeLock().lock();
+        try {
+            int weight = Math.max(1, nicknames.getWeight(oldKey));
+            nicknames.add(oldKey, oldNickname, -weight);
+            nicknames.add(normalize(newNickname), newNickname, weight);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB의 활성 회원 닉네임과 전체 게시글 제목으로 트라이를 새로 만든 뒤 교체한다.
+     * 재구성 중의 개별 갱신은 이전 트라이에만 반영되며, 차이는 다음 재구성에서 맞춰진다.
+     */
+    public void rebuild() {
+        PrefixTrie freshTitles = new PrefixTrie();
+        PrefixTrie freshNicknames = new PrefixTrie();
+        Set<String> activeNicknames = new HashSet<>();
+        for (String nickname : authMapper.selectActiveNicknames()) {
+            String key = normalize(nickname);
+            if (activeNicknames.add(key)) {
+                freshNicknames.add(key, nickname, 1);
+            }
+        }
+
+        String afterPostId = null;
+        int count = 0;
+        while (true) {
+            List<Post> posts = postMapper.findPostsForSuggest(afterPostId, REBUILD_BATCH_SIZE);
+            if (posts.isEmpty()) {
+                break;
+            }
+            for (Post post : posts) {
+                freshTitles.add(normalize(post.getTitle()), post.getTitle(), 1);
+                String nicknameKey = normalize(post.getNickname());
+                if (activeNicknames.contains(nicknameKey)) {
+                    freshNicknames.add(nicknameKey, post.getNickname(), 1);
+                }
+            }
+            count += posts.size();
+            afterPostId = posts.get(posts.size() - 1).getPostId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            titles = freshTitles;
+            nicknames = freshNicknames;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("자동완성 재구성 완료: 게시글 {}건, 회원 {}명, 노드 {}개",
+                count, activeNicknames.size(), freshTitles.nodeCount() + freshNicknames.nodeCount());
+    }
+
+    // 전각/반각, 대소문자, 연속 공백 차이를 무시하도록 정규화
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+        return normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+    }
+}
@@ -0,0 +1,216 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.chat.repository.ChatNotificationRepository;
+import com.p4th.backend.dto.response.UnreadCountResponse;
+import com.p4th.backend.mapper.NotificationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 읽지 않은 알림/채팅 알림 개수 캐시.
+ * 처음 조회될 때 DB에서 적재하고, 이후에는 알림 생성/읽음 처리가 커밋될 때마다 증감하여
+ * 변경된 개수를 STOMP /topic/notify.{userId} 로 전송한다. 클라이언트는 접속 시 한 번 조회한 뒤 전송을 받으면 된다.
+ * 최대 보관 사용자 수(LRU)와 TTL로 크기를 제한하며, 만료되면 다음 조회나 변경 시 DB에서 다시 적재한다.
+ */
+@Slf4j
+@Service
+public class UnreadCountService {
+
+    private static final String NOTIFY_TOPIC_PREFIX = "/topic/notify.";
+    // 적재 도중 증감이 있었는지 판단하기 위한 사용자 ID 해시별 변경 번호
+    private static final int STRIPES = 64;
+
+    private final NotificationMapper notificationMapper;
+    private final ChatNotificationRepository chatNotificationRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler taskScheduler;
+    private final long ttlMillis;
+    private final Map<String, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public UnreadCountService(NotificationMapper notificationMapper,
+                              ChatNotificationRepository chatNotificationRepository,
+                              SimpMessagingTemplate messagingTemplate,
+                              TaskScheduler taskScheduler,
+                              @Value("${p4th.unread-count.max-size:10000}") int maxSize,
+                              @Value("${p4th.unread-count.ttl-seconds:600}") long ttlSeconds) {
+        this.notificationMapper = notificationMapper;
+        this.chatNotificationRepository = chatNotificationRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.taskScheduler = taskScheduler;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public UnreadCountResponse getUnreadCount(String userId) {
+        if (userId == null) {
+            return toResponse(0, 0);
+        }
+        synchronized (cache) {
+            Entry entry = cache.get(userId);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                return toResponse(entry.notificationCount, entry.chatCount);
+            }
+        }
+        Entry loaded = load(userId);
+        return toResponse(loaded.notificationCount, loaded.chatCount);
+    }
+
+    /**
+     * 개인 알림 생성(+1)/읽음 처리(-1). 트랜잭션 안이면 커밋 이후에 반영한다.
+     */
+    public void adjustNotificationCount(String userId, int delta) {
+        afterCommit(() -> adjust(userId, delta, 0));
+    }
+
+    /**
+     * 채팅 알림 생성(+1)/읽음 처리(-읽은 수). 트랜잭션 안이면 커밋 이후에 반영한다.
+     */
+    public void adjustChatCount(String userId, int delta) {
+        afterCommit(() -> adjust(userId, 0, delta));
+    }
+
+    /**
+     * 전체 회원 대상 알림(공지)이 생성되었을 때 호출. 커밋 시점에 캐시에 있던(최근 접속한) 사용자의 개수만 증가시키고 전송하며,
+     * 나머지 사용자는 다음 조회 시 DB에서 적재된다.
+     * 커밋 전에 적재를 시작한 사용자는 새 공지가 빠진 개수를 캐시할 수 있으므로, 모든 구간의 변경 번호를 올려 그 결과를 캐시하지 않는다.
+     * @param authorId 알림 대상에서 제외되는 작성자
+     */
+    public void onBroadcastCreated(String authorId) {
+        afterCommit(() -> {
+            for (int i = 0; i < STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            Map<String, Entry> snapshot;
+            synchronized (cache) {
+                snapshot = new LinkedHashMap<>(cache);
+            }
+            snapshot.remove(authorId);
+            taskScheduler.schedule(() -> snapshot.forEach(this::adjustCachedOnly), Instant.now());
+        });
+    }
+
+    /**
+     * 알림이 일괄 삭제/보관되어 개별 증감으로 반영할 수 없을 때 호출. 모든 항목을 비워 다음 조회 시 다시 적재한다.
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private void adjust(String userId, int notificationDelta, int chatDelta) {
+        if (userId == null) {
+            return;
+        }
+        generations.incrementAndGet(stripe(userId));
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(userId);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                entry.notificationCount = Math.max(0, entry.notificationCount + notificationDelta);
+                entry.chatCount = Math.max(0, entry.chatCount + chatDelta);
+            } else {
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            // 커밋 이후이므로 DB에서 적재한 값에 이번 변경이 이미 포함되어 있음
+            entry = load(userId);
+        }
+        push(userId, entry);
+    }
+
+    // 공지 커밋 시점의 항목이 그대로 남아 있을 때만 증가 (그 사이 다시 적재된 항목에는 공지가 이미 포함되어 있음)
+    private void adjustCachedOnly(String userId, Entry snapshotEntry) {
+        generations.incrementAndGet(stripe(userId));
+        synchronized (cache) {
+            if (cache.get(userId) != snapshotEntry) {
+                return;
+            }
+            snapshotEntry.notificationCount++;
+        }
+        push(userId, snapshotEntry);
+    }
+
+    private Entry load(String userId) {
+        long generation = generations.get(stripe(userId));
+        int notificationCount = notificationMapper.countUnreadNotifications(userId)
+                + notificationMapper.countUnreadBroadcasts(userId);
+        int chatCount = (int) chatNotificationRepository.countByReceiverIdAndReadYnFalse(userId);
+        Entry entry = new Entry(notificationCount, chatCount, System.currentTimeMillis() + ttlMillis);
+        synchronized (cache) {
+            // 적재 도중 같은 구간의 증감이 있었으면 이번 결과는 캐시하지 않음 (다음 조회 시 다시 적재)
+            if (generations.get(stripe(userId)) == generation) {
+                cache.put(userId, entry);
+            }
+        }
+        return entry;
+    }
+
+    private void push(String userId, Entry entry) {
+        UnreadCountResponse response;
+        synchronized (cache) {
+            response = toResponse(entry.notificationCount, entry.chatCount);
+        }
+        try {
+            messagingTemplate.convertAndSend(NOTIFY_TOPIC_PREFIX + userId, response);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 전송 실패 (userId={}): {}", userId, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static int stripe(String userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+
+    private static UnreadCountResponse toResponse(int notificationCount, int chatCount) {
+        UnreadCountResponse response = new UnreadCountResponse();
+        response.setUnreadCount(notificationCount);
+        response.setChatUnreadCount(chatCount);
+        return response;
+    }
+
+    private static class Entry {
+        private int notificationCount;
+        private int chatCount;
+        private final long expiresAt;
+
+        Entry(int notificationCount, int chatCount, long expiresAt) {
+            this.notificationCount = notificationCount;
+            this.chatCount = chatCount;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.AccountStatus;
+import com.p4th.backend.domain.User;
+import com.p4th.backend.mapper.AuthMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그인 사용자별 계정 상태/관리자 등급 캐시.
+ * 로그인 필요 API(LoginCheckAspect)와 관리자 API(AdminAuthorizationInterceptor)가 요청마다 user_info를 조회하지 않도록 한다.
+ * 최대 보관 사용자 수(LRU)와 TTL로 크기를 제한하고, SchedulerController에서 최근 사용된 항목을 일괄 재조회하여
+ * 요청 경로에서는 DB를 거의 조회하지 않는다. 차단/해제, 관리자 등급 변경, 탈퇴 시 해당 사용자 항목을 무효화한다.
+ */
+@Service
+public class UserAuthStatusCache {
+
+    private static final int REFRESH_BATCH_SIZE = 500;
+    // 적재 도중 무효화가 있었는지 판단하기 위한 사용자 ID 해시별 변경 번호
+    private static final int STRIPES = 64;
+
+    public record UserAuthStatus(AccountStatus accountStatus, int adminRole) {
+        public boolean isBlocked() {
+            return accountStatus == AccountStatus.BLOCKED;
+        }
+
+        public boolean isAdmin() {
+            return adminRole == 1;
+        }
+    }
+
+    private final AuthMapper authMapper;
+    private final long ttlMillis;
+    private final Map<String, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public UserAuthStatusCache(AuthMapper authMapper,
+                               @Value("${p4th.auth-cache.max-size:10000}") int maxSize,
+                               @Value("${p4th.auth-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.authMapper = authMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 계정 상태/관리자 등급, 존재하지 않는 사용자면 null
+     */
+    public UserAuthStatus get(String userId) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Entry entry = cache.get(userId);
+            if (entry != null && entry.expiresAt > now) {
+                entry.lastAccessedAt = now;
+                return entry.status;
+            }
+        }
+        long generation = generations.get(stripe(userId));
+        List<User> users = authMapper.selectAuthStatusesByUserIds(List.of(userId));
+        if (users.isEmpty()) {
+            return null;
+        }
+        UserAuthStatus status = toStatus(users.get(0));
+        synchronized (cache) {
+            // 적재 도중 같은 구간의 무효화(차단 등)가 있었으면 이전 상태일 수 있으므로 캐시하지 않음 (다음 조회 시 다시 적재)
+            if (generations.get(stripe(userId)) == generation) {
+                cache.put(userId, new Entry(status, now + ttlMillis, now));
+            }
+        }
+        return status;
+    }
+
+    /**
+     * 사용자의 계정 상태/관리자 등급이 바뀌었을 때 호출. 트랜잭션 안이면 커밋 이후에도 한 번 더 무효화한다.
+     */
+    public void invalidate(String userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * TTL 안에 사용된 항목을 DB에서 일괄 재조회하여 만료 시각을 연장하고, 사용되지 않은 항목은 제거한다.
+     */
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        // 재조회 중 무효화 후 다시 적재된 항목을 이전 값으로 덮어쓰지 않도록 시작 시점의 항목과 비교
+        Map<String, Entry> snapshot;
+        synchronized (cache) {
+            cache.entrySet().removeIf(entry -> entry.getValue().lastAccessedAt + ttlMillis <= now);
+            snapshot = new LinkedHashMap<>(cache);
+        }
+        List<String> userIds = new ArrayList<>(snapshot.keySet());
+        for (int from = 0; from < userIds.size(); from += REFRESH_BATCH_SIZE) {
+            List<String> chunk = userIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, userIds.size()));
+            Map<String, UserAuthStatus> loaded = new LinkedHashMap<>();
+            for (User user : authMapper.selectAuthStatusesByUserIds(chunk)) {
+                loaded.put(user.getUserId(), toStatus(user));
+            }
+            synchronized (cache) {
+                for (String userId : chunk) {
+                    Entry entry = cache.get(userId);
+                    if (entry == null || entry != snapshot.get(userId)) {
+                        continue;
+                    }
+                    UserAuthStatus status = loaded.get(userId);
+                    if (status == null) {
+                        cache.remove(userId);
+                    } else {
+                        cache.put(userId, new Entry(status, now + ttlMillis, entry.lastAccessedAt));
+                    }
+                }
+            }
+        }
+    }
+
+    private void evict(String userId) {
+        generations.incrementAndGet(stripe(userId));
+        synchronized (cache) {
+            cache.remove(userId);
+        }
+    }
+
+    private static int stripe(String userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+
+    private static UserAuthStatus toStatus(User user) {
+        return new UserAuthStatus(user.getAccountStatus(), user.getAdminRole());
+    }
+
+    private static class Entry {
+        private final UserAuthStatus status;
+        private final long expiresAt;
+        private long lastAccessedAt;
+
+        Entry(UserAuthStatus status, long expiresAt, long lastAccessedAt) {
+            this.status = status;
+            this.expiresAt = expiresAt;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 조회수 증가 요청을 메모리(게시글별 카운터)에 모았다가 주기적으로 한 번의 UPDATE로 반영한다.
+ * 인기 게시글에 조회 요청이 몰려도 같은 행에 대한 UPDATE가 요청마다 실행되지 않아 행 잠금 경합과 커넥션 점유가 줄어든다.
+ * 카운터는 DB 반영이 성공한 뒤에 반영한 만큼만 차감하므로, 반영 중에도 조회 응답에 더하는 증가분이 줄어들지 않는다.
+ */
+@Slf4j
+@Service
+public class ViewCountAccumulator {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    // 제거된 카운터 표시. 이 값을 본 증가 요청은 새 카운터를 만들어 다시 시도한다.
+    private static final long EVICTED = -1;
+
+    private final PostMapper postMapper;
+    private final Map<String, AtomicLong> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+
+    public ViewCountAccumulator(PostMapper postMapper, MeterRegistry meterRegistry) {
+        this.postMapper = postMapper;
+        Gauge.builder("post.view.pending.posts", pending, Map::size)
+                .description("DB 반영 대기 중인 조회수 증가분이 있는 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("post.view.pending.delta", this, ViewCountAccumulator::getPendingTotal)
+                .description("DB 반영 대기 중인 조회수 증가분 합계")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("post.view.flushed")
+                .description("DB에 반영된 조회수 증가분 합계")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("post.view.flush.failures")
+                .description("조회수 일괄 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    public void increment(String postId) {
+        while (true) {
+            AtomicLong counter = pending.computeIfAbsent(postId, id -> new AtomicLong());
+            if (counter.getAndUpdate(count -> count == EVICTED ? EVICTED : count + 1) != EVICTED) {
+                return;
+            }
+            pending.remove(postId, counter);
+        }
+    }
+
+    /**
+     * 증가분을 모으고 있는 게시글인지 여부 (이미 존재 여부를 확인한 게시글)
+     */
+    public boolean isTracked(String postId) {
+        AtomicLong counter = pending.get(postId);
+        return counter != null && counter.get() != EVICTED;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분. 조회 응답에 더해 사용자에게 보이는 조회수가 줄어들지 않도록 한다.
+     */
+    public long getPendingDelta(String postId) {
+        AtomicLong counter = pending.get(postId);
+        return counter == null ? 0 : Math.max(0, counter.get());
+    }
+
+    public long getPendingTotal() {
+        long total = 0;
+        for (AtomicLong counter : pending.values()) {
+            total += Math.max(0, counter.get());
+        }
+        return total;
+    }
+
+    /**
+     * 누적된 증가분을 게시글 묶음 단위의 UPDATE ... CASE로 반영한다.
+     * 반영에 실패한 증가분은 카운터에 그대로 남아 다음 주기에 재시도한다.
+     */
+    public synchronized void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : pending.entrySet()) {
+            AtomicLong counter = entry.getValue();
+            long delta = counter.get();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else if (counter.compareAndSet(0, EVICTED)) {
+                // 한 주기 동안 조회가 없던 게시글은 제거 (이후 증가 요청은 새 카운터에 누적됨)
+                pending.remove(entry.getKey(), counter);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> chunk = new HashMap<>();
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == FLUSH_CHUNK_SIZE) {
+                flushChunk(chunk);
+                chunk = new HashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flushChunk(chunk);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long remaining = getPendingTotal();
+        if (remaining > 0) {
+            log.warn("종료 시 반영하지 못한 조회수 증가분: {}", remaining);
+        }
+    }
+
+    private void flushChunk(Map<String, Long> chunk) {
+        try {
+            postMapper.addViewCounts(chunk);
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.warn("조회수 일괄 반영 실패 ({}건), 다음 주기에 재시도: {}", chunk.size(), e.getMessage());
+            return;
+        }
+        // 증가분이 남아 있는 카운터는 제거되지 않으므로 반영한 만큼 그대로 차감할 수 있다
+        chunk.forEach((postId, delta) -> pending.get(postId).addAndGet(-delta));
+        flushedCounter.increment(chunk.values().stream().mapToLong(Long::longValue).sum());
+    }
+}
@@ -18,6 +18,16 @@ public class HtmlContentUtils {
         return extractText(plainText, maxLength);
     }
 
+    /**
+     * HTML 문자열에서 태그를 제거한 전체 순수 텍스트 (검색 색인용, 길이 제한 없음)
+     */
+    public static String extractPlainText(String htmlContent) {
+        if (htmlContent == null || htmlContent.isEmpty()) {
+            return "";
+        }
+        return HtmlSummaryExtractor.extract(htmlContent, htmlContent.length()).getPlainText();
+    }
+
     public static String extractText(String text, int maxLength) {
         if (text.length() > maxLength) {
             text = text.substring(0, maxLength) + "...";
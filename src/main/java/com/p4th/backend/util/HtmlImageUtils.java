@@ -11,6 +11,11 @@ import java.util.regex.Pattern;
 
 public class HtmlImageUtils {
 
+    private static final Pattern IMAGE_EXTENSION_PATTERN =
+            Pattern.compile("(?i).*\\.(jpg|jpeg|png|gif|bmp)(\\?.*)?$");
+    private static final Pattern YOUTUBE_VIDEO_ID_PATTERN =
+            Pattern.compile("(?<=v=|/embed/|youtu\\.be/)[^&\\n?#]+");
+
     /**
      * HTML 문자열에서 첫 번째 <img> 태그의 src를 추출한다.
      * 단, src가 이미지 파일 확장자(jpg, jpeg, png, gif, bmp)인 경우에만 반환한다.
@@ -32,10 +37,10 @@ public class HtmlImageUtils {
                 return src;
             }
             // YouTube URL인 경우 영상 ID를 추출하여 썸네일 URL 반환
-            if (src.toLowerCase().contains("youtube") || src.toLowerCase().contains("youtu.be")) {
+            if (isYoutubeUrl(src)) {
                 String videoId = extractYoutubeVideoId(src);
                 if (videoId != null) {
-                    return "https://img.youtube.com/vi/" + videoId + "/hqdefault.jpg";
+                    return youtubeThumbnailUrl(videoId);
                 }
             }
         }
@@ -78,15 +83,33 @@ public class HtmlImageUtils {
             return false;
         }
         // 조건 1: 파일 확장자 검사 (대소문자 무시)
-        if (src.matches("(?i).*\\.(jpg|jpeg|png|gif|bmp)(\\?.*)?$")) {
+        if (IMAGE_EXTENSION_PATTERN.matcher(src).matches()) {
             return true;
         }
+        if (!src.startsWith("http")) {
+            return false;
+        }
         // 조건 2: HTTP URL이고, 비디오/임베디드 관련 키워드가 없는 경우
-        return src.startsWith("http") &&
-                !src.toLowerCase().contains("youtube") &&
-                !src.toLowerCase().contains("youtu.be") &&
-                !src.toLowerCase().contains("vimeo") &&
-                !src.toLowerCase().contains("dailymotion");
+        String lower = src.toLowerCase();
+        return !lower.contains("youtube") &&
+                !lower.contains("youtu.be") &&
+                !lower.contains("vimeo") &&
+                !lower.contains("dailymotion");
+    }
+
+    /**
+     * 주어진 src URL이 YouTube 영상 URL인지 확인한다.
+     */
+    public static boolean isYoutubeUrl(String src) {
+        String lower = src.toLowerCase();
+        return lower.contains("youtube") || lower.contains("youtu.be");
+    }
+
+    /**
+     * YouTube 영상 ID로 썸네일 이미지 URL을 만든다.
+     */
+    public static String youtubeThumbnailUrl(String videoId) {
+        return "https://img.youtube.com/vi/" + videoId + "/hqdefault.jpg";
     }
 
     /**
@@ -128,8 +151,7 @@ public class HtmlImageUtils {
      */
     public static String extractYoutubeVideoId(String url) {
         // 정규표현식을 사용하여 영상 ID 추출
-        Pattern pattern = Pattern.compile("(?<=v=|/embed/|youtu\\.be/)[^&\\n?#]+");
-        Matcher matcher = pattern.matcher(url);
+        Matcher matcher = YOUTUBE_VIDEO_ID_PATTERN.matcher(url);
         if (matcher.find()) {
             return matcher.group();
         }
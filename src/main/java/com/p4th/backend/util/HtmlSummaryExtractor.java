@@ -0,0 +1,477 @@
+package com.p4th.backend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jsoup.parser.Parser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 HTML을 한 번만 순회하면서 목록용 요약 정보(순수 텍스트, 썸네일 URL, 이미지 개수)를 함께 추출한다.
+ * Jsoup Document(DOM)를 만들지 않고 문자열을 직접 스캔하며, 결과는 아래 기존 유틸과 동일하게 맞춘다.
+ *   - HtmlContentUtils.extractPlainText(html, maxLength)
+ *   - HtmlImageUtils.extractFirstImageUrl(html)
+ *   - HtmlImageUtils.countInlineImages(html)
+ * 블록 태그 뒤 공백을 Jsoup 트리와 같게 넣기 위해 열린 태그를 추적한다 (암묵적으로 닫히는 태그, 서식 태그 재개방 포함).
+ * 같은 서식 태그가 블록과 어긋나게 여러 겹 중첩된 경우처럼 에디터가 만들지 않는 일부 HTML에서만 공백 위치가 다를 수 있다.
+ */
+public class HtmlSummaryExtractor {
+
+    // Jsoup Element.text()에서 앞뒤로 공백을 넣는 블록 레벨 태그
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "html", "head", "body", "frameset", "script", "noscript", "style", "meta", "link", "title",
+            "frame", "noframes", "section", "nav", "aside", "hgroup", "header", "footer", "p",
+            "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "pre", "div", "blockquote", "hr",
+            "address", "figure", "figcaption", "form", "fieldset", "ins", "del", "dl", "dt", "dd",
+            "li", "table", "caption", "thead", "tfoot", "tbody", "colgroup", "col", "tr", "th", "td",
+            "video", "audio", "canvas", "details", "menu", "plaintext", "template", "article", "main",
+            "svg", "math", "center", "dir", "applet", "marquee", "listing"
+    );
+
+    // 내용이 텍스트로 취급되지 않는 태그 (Jsoup에서 DataNode로 파싱됨)
+    private static final Set<String> DATA_TAGS = Set.of("script", "style");
+
+    // 내부에 태그가 올 수 없고 내용 전체가 텍스트인 태그
+    private static final Set<String> RCDATA_TAGS = Set.of("textarea", "title");
+
+    // 열리면서 열려 있는 p를 닫는 태그
+    private static final Set<String> P_CLOSING_TAGS = Set.of(
+            "address", "article", "aside", "blockquote", "center", "details", "dir", "div", "dl", "fieldset",
+            "figcaption", "figure", "footer", "header", "hgroup", "menu", "nav", "ol", "p", "section", "summary",
+            "ul", "h1", "h2", "h3", "h4", "h5", "h6", "pre", "listing", "form", "li", "dd", "dt", "plaintext",
+            "table", "hr", "xmp"
+    );
+
+    private static final Set<String> HEADING_TAGS = Set.of("h1", "h2", "h3", "h4", "h5", "h6");
+
+    // 블록 태그에 의해 암묵적으로 닫혀도 다음 텍스트 앞에서 다시 열리는 서식 태그
+    private static final Set<String> FORMATTING_TAGS = Set.of(
+            "a", "b", "big", "code", "em", "font", "i", "nobr", "s", "small", "strike", "strong", "tt", "u"
+    );
+
+    // 블록 태그의 닫는 태그가 이 태그 바깥의 태그까지 닫지 못하게 하는 경계
+    private static final Set<String> SCOPE_TAGS = Set.of(
+            "applet", "caption", "html", "table", "td", "th", "marquee", "object", "template"
+    );
+
+    // 닫는 태그가 없는 태그 (열린 태그 목록에 넣지 않음)
+    private static final Set<String> VOID_TAGS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "keygen", "link", "meta",
+            "param", "source", "track", "wbr"
+    );
+
+    @Getter
+    @AllArgsConstructor
+    public static class HtmlSummary {
+        private final String plainText;     // 태그 제거 후 maxTextLength 길이로 자른 텍스트
+        private final String thumbnailUrl;  // 첫 번째 이미지 또는 YouTube 썸네일 URL, 없으면 null
+        private final int imageCount;       // 이미지 URL을 가진 img 태그 개수
+    }
+
+    /**
+     * HTML 문자열을 한 번 순회하여 요약 정보를 추출한다.
+     * @param htmlContent 원본 HTML 콘텐츠
+     * @param maxTextLength 순수 텍스트 최대 길이 (초과 시 "..." 추가)
+     * @return 요약 정보
+     */
+    public static HtmlSummary extract(String htmlContent, int maxTextLength) {
+        if (htmlContent == null || htmlContent.isEmpty()) {
+            return new HtmlSummary("", null, 0);
+        }
+        Scanner scanner = new Scanner(htmlContent, maxTextLength);
+        scanner.scan();
+        return new HtmlSummary(scanner.plainText(), scanner.thumbnailUrl, scanner.imageCount);
+    }
+
+    private static class Scanner {
+        private final String html;
+        private final int length;
+        private final int maxTextLength;
+        private final StringBuilder text;
+        // 열려 있는 태그 이름. 열리지 않은 태그의 닫는 태그는 Jsoup처럼 무시하기 위해 사용
+        private final Deque<String> openTags = new ArrayDeque<>();
+        // 명시적으로 닫히지 않은 서식 태그 (열린 순서)
+        private final Deque<String> activeFormatting = new ArrayDeque<>();
+        private boolean pendingSpace;
+        // 블록 태그가 방금 닫혔음. Jsoup은 바로 다음 형제가 텍스트일 때만 공백을 넣는다.
+        private boolean blockClosed;
+        private boolean textFull;
+        private String thumbnailUrl;
+        private int imageCount;
+
+        Scanner(String html, int maxTextLength) {
+            this.html = html;
+            this.length = html.length();
+            this.maxTextLength = maxTextLength;
+            this.text = new StringBuilder(Math.min(length, maxTextLength + 1));
+        }
+
+        void scan() {
+            int pos = 0;
+            int textStart = 0;
+            while (pos < length) {
+                if (html.charAt(pos) != '<' || pos + 1 >= length) {
+                    pos++;
+                    continue;
+                }
+                char next = html.charAt(pos + 1);
+                int tagEnd;
+                if (next == '!') {
+                    // 주석, DOCTYPE
+                    tagEnd = html.startsWith("<!--", pos) ? skipPast("-->", pos + 4) : skipPast(">", pos + 2);
+                } else if (next == '?') {
+                    tagEnd = skipPast(">", pos + 2);
+                } else if (next == '/' && pos + 2 < length && isAsciiLetter(html.charAt(pos + 2))) {
+                    appendText(textStart, pos);
+                    tagEnd = readEndTag(pos + 2);
+                    textStart = tagEnd;
+                    pos = tagEnd;
+                    continue;
+                } else if (isAsciiLetter(next)) {
+                    appendText(textStart, pos);
+                    tagEnd = readStartTag(pos + 1);
+                    textStart = tagEnd;
+                    pos = tagEnd;
+                    continue;
+                } else {
+                    // 태그로 해석되지 않는 '<'는 일반 텍스트
+                    pos++;
+                    continue;
+                }
+                appendText(textStart, pos);
+                blockClosed = false;
+                textStart = tagEnd;
+                pos = tagEnd;
+            }
+            appendText(textStart, length);
+        }
+
+        String plainText() {
+            return HtmlContentUtils.extractText(text.toString(), maxTextLength);
+        }
+
+        private int readEndTag(int pos) {
+            int nameStart = pos;
+            while (pos < length && !isTagNameEnd(html.charAt(pos))) {
+                pos++;
+            }
+            if (!textFull) {
+                // 텍스트를 다 모은 뒤에는 공백 위치를 계산할 필요가 없으므로 태그 구조를 따라가지 않는다.
+                onEndTag(html.substring(nameStart, pos).toLowerCase(Locale.ROOT));
+            }
+            return skipPast(">", pos);
+        }
+
+        private void onEndTag(String tagName) {
+            if ("br".equals(tagName)) {
+                // </br>은 <br>로 처리됨
+                pendingSpace = true;
+                blockClosed = false;
+            } else if (FORMATTING_TAGS.contains(tagName) && openTags.contains(tagName)) {
+                closeFormattingTag(tagName);
+                blockClosed = false;
+            } else if (isClosable(tagName)) {
+                popUntil(tagName);
+                blockClosed = BLOCK_TAGS.contains(tagName);
+            } else if ("p".equals(tagName)) {
+                // 열리지 않은 </p>는 빈 p 요소가 됨
+                pendingSpace = true;
+                blockClosed = true;
+            }
+            // 암묵적으로 닫혔던 서식 태그도 닫는 태그가 나오면 더 이상 다시 열리지 않음
+            activeFormatting.removeLastOccurrence(tagName);
+        }
+
+        private int readStartTag(int pos) {
+            int nameStart = pos;
+            while (pos < length && !isTagNameEnd(html.charAt(pos))) {
+                pos++;
+            }
+            String tagName = html.substring(nameStart, pos).toLowerCase(Locale.ROOT);
+            boolean mediaTag = "img".equals(tagName) || "iframe".equals(tagName);
+            String src = null;
+
+            // 속성 파싱: src 값만 필요하며, 중복 속성은 처음 값을 사용한다 (Jsoup과 동일)
+            while (pos < length) {
+                char c = html.charAt(pos);
+                if (c == '>') {
+                    pos++;
+                    break;
+                }
+                if (isWhitespace(c) || c == '/') {
+                    pos++;
+                    continue;
+                }
+                int attrStart = pos;
+                while (pos < length && !isAttributeNameEnd(html.charAt(pos))) {
+                    pos++;
+                }
+                int attrEnd = pos;
+                while (pos < length && isWhitespace(html.charAt(pos))) {
+                    pos++;
+                }
+                int valueStart = pos;
+                int valueEnd = pos;
+                if (pos < length && html.charAt(pos) == '=') {
+                    pos++;
+                    while (pos < length && isWhitespace(html.charAt(pos))) {
+                        pos++;
+                    }
+                    if (pos < length && (html.charAt(pos) == '"' || html.charAt(pos) == '\'')) {
+                        int close = html.indexOf(html.charAt(pos), pos + 1);
+                        valueStart = pos + 1;
+                        valueEnd = close < 0 ? length : close;
+                        pos = close < 0 ? length : close + 1;
+                    } else {
+                        valueStart = pos;
+                        while (pos < length && !isWhitespace(html.charAt(pos)) && html.charAt(pos) != '>') {
+                            pos++;
+                        }
+                        valueEnd = pos;
+                    }
+                }
+                if (mediaTag && src == null && attrEnd - attrStart == 3
+                        && html.regionMatches(true, attrStart, "src", 0, 3)) {
+                    src = unescape(html.substring(valueStart, valueEnd), true);
+                }
+            }
+
+            if (!textFull) {
+                onStartTag(tagName);
+            }
+            if (src != null) {
+                handleMedia("img".equals(tagName), src);
+            }
+            if (DATA_TAGS.contains(tagName)) {
+                return skipRawText(tagName, pos, false);
+            }
+            if (RCDATA_TAGS.contains(tagName)) {
+                return skipRawText(tagName, pos, true);
+            }
+            return pos;
+        }
+
+        private void onStartTag(String tagName) {
+            boolean block = BLOCK_TAGS.contains(tagName);
+            if (block || "br".equals(tagName)) {
+                pendingSpace = true;
+            }
+            blockClosed = false;
+            closeImpliedTags(tagName);
+            if (!block && !RCDATA_TAGS.contains(tagName) && !"iframe".equals(tagName)) {
+                reopenFormattingTags();
+            }
+            if (!VOID_TAGS.contains(tagName)) {
+                openTags.push(tagName);
+            }
+            if (FORMATTING_TAGS.contains(tagName)) {
+                activeFormatting.add(tagName);
+            }
+        }
+
+        // 새 태그가 열리면서 암묵적으로 닫히는 태그 처리 (HTML 파싱 규칙 중 p, li, a, h1~h6에 해당하는 부분)
+        private void closeImpliedTags(String tagName) {
+            if (P_CLOSING_TAGS.contains(tagName)) {
+                for (String open : openTags) {
+                    if ("p".equals(open)) {
+                        popUntil("p");
+                        break;
+                    }
+                    if ("button".equals(open) || "table".equals(open) || "td".equals(open) || "th".equals(open)) {
+                        break;
+                    }
+                }
+            }
+            if ("li".equals(tagName)) {
+                for (String open : openTags) {
+                    if ("li".equals(open)) {
+                        popUntil("li");
+                        break;
+                    }
+                    if (BLOCK_TAGS.contains(open) && !"address".equals(open) && !"div".equals(open) && !"p".equals(open)) {
+                        break;
+                    }
+                }
+            }
+            // a, nobr는 중첩되지 않으므로 열려 있던 것을 먼저 닫음
+            if (("a".equals(tagName) || "nobr".equals(tagName)) && activeFormatting.removeLastOccurrence(tagName)
+                    && openTags.contains(tagName)) {
+                closeFormattingTag(tagName);
+            }
+            if (HEADING_TAGS.contains(tagName) && !openTags.isEmpty() && HEADING_TAGS.contains(openTags.peek())) {
+                openTags.pop();
+            }
+        }
+
+        // 블록 태그는 경계 태그 안쪽의 태그를 모두 닫고 닫히지만, 그 외의 태그는 사이에 블록 태그가 열려 있으면 닫는 태그가 무시된다.
+        private boolean isClosable(String tagName) {
+            boolean block = BLOCK_TAGS.contains(tagName);
+            for (String open : openTags) {
+                if (open.equals(tagName)) {
+                    return true;
+                }
+                if (block ? isScopeBoundary(tagName, open) : BLOCK_TAGS.contains(open)) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isScopeBoundary(String tagName, String open) {
+            if (SCOPE_TAGS.contains(open)) {
+                return true;
+            }
+            if ("li".equals(tagName)) {
+                return "ul".equals(open) || "ol".equals(open);
+            }
+            return "p".equals(tagName) && "button".equals(open);
+        }
+
+        // 서식 태그 안에 블록 태그가 열려 있으면 블록은 서식 태그 밖으로 옮겨져 계속 열려 있다 (adoption agency).
+        private void closeFormattingTag(String tagName) {
+            for (String open : openTags) {
+                if (open.equals(tagName)) {
+                    popUntil(tagName);
+                    return;
+                }
+                if (BLOCK_TAGS.contains(open)) {
+                    openTags.removeFirstOccurrence(tagName);
+                    return;
+                }
+            }
+        }
+
+        // 블록이 닫히면서 함께 닫힌 서식 태그는 다음 텍스트나 인라인 태그 앞에서 다시 열린다. 다시 열렸으면 true
+        private boolean reopenFormattingTags() {
+            boolean reopened = false;
+            for (String tagName : activeFormatting) {
+                if (!openTags.contains(tagName)) {
+                    openTags.push(tagName);
+                    reopened = true;
+                }
+            }
+            return reopened;
+        }
+
+        private void popUntil(String tagName) {
+            String closed;
+            do {
+                closed = openTags.pop();
+            } while (!closed.equals(tagName));
+        }
+
+        // script/style/textarea/title 처럼 내부에 태그가 올 수 없는 요소는 닫는 태그까지 한 번에 건너뛴다.
+        private int skipRawText(String tagName, int pos, boolean asText) {
+            String closeTag = "</" + tagName;
+            int close = pos;
+            while (close < length) {
+                close = html.indexOf('<', close);
+                if (close < 0) {
+                    close = length;
+                    break;
+                }
+                if (html.regionMatches(true, close, closeTag, 0, closeTag.length())) {
+                    break;
+                }
+                close++;
+            }
+            if (asText) {
+                appendText(pos, close);
+            }
+            if (close >= length) {
+                return length;
+            }
+            return readEndTag(close + 2);
+        }
+
+        private void handleMedia(boolean img, String src) {
+            boolean imageUrl = HtmlImageUtils.isImageUrl(src);
+            if (img && imageUrl) {
+                imageCount++;
+            }
+            if (thumbnailUrl != null) {
+                return;
+            }
+            if (imageUrl) {
+                thumbnailUrl = src;
+            } else if (HtmlImageUtils.isYoutubeUrl(src)) {
+                String videoId = HtmlImageUtils.extractYoutubeVideoId(src);
+                if (videoId != null) {
+                    thumbnailUrl = HtmlImageUtils.youtubeThumbnailUrl(videoId);
+                }
+            }
+        }
+
+        // 텍스트 구간을 Jsoup Element.text()와 같은 규칙(공백 정규화, 보이지 않는 문자 제거)으로 누적한다.
+        private void appendText(int start, int end) {
+            if (textFull || start >= end) {
+                return;
+            }
+            if (reopenFormattingTags()) {
+                // 텍스트가 다시 열린 서식 태그 안에 들어가므로 블록 바로 다음 형제가 텍스트가 아님
+                blockClosed = false;
+            }
+            if (blockClosed) {
+                pendingSpace = true;
+                blockClosed = false;
+            }
+            int amp = html.indexOf('&', start);
+            if (amp >= 0 && amp < end) {
+                appendNormalized(unescape(html.substring(start, end), false), 0, -1);
+            } else {
+                appendNormalized(html, start, end);
+            }
+        }
+
+        private void appendNormalized(String source, int start, int end) {
+            if (end < 0) {
+                end = source.length();
+            }
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                if (isWhitespace(c) || c == 160) {
+                    pendingSpace = true;
+                } else if (c != 8203 && c != 173) {
+                    if (pendingSpace && text.length() > 0) {
+                        text.append(' ');
+                    }
+                    pendingSpace = false;
+                    text.append(c);
+                    // 잘라낼 길이를 넘어서면 더 이상 텍스트를 모을 필요가 없다.
+                    if (text.length() > maxTextLength) {
+                        textFull = true;
+                        return;
+                    }
+                }
+            }
+        }
+
+        private int skipPast(String terminator, int from) {
+            int idx = html.indexOf(terminator, from);
+            return idx < 0 ? length : idx + terminator.length();
+        }
+
+        private static String unescape(String value, boolean inAttribute) {
+            return value.indexOf('&') < 0 ? value : Parser.unescapeEntities(value, inAttribute);
+        }
+
+        private static boolean isAsciiLetter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+        }
+
+        private static boolean isTagNameEnd(char c) {
+            return isWhitespace(c) || c == '/' || c == '>';
+        }
+
+        private static boolean isAttributeNameEnd(char c) {
+            return isWhitespace(c) || c == '/' || c == '=' || c == '>';
+        }
+    }
+}
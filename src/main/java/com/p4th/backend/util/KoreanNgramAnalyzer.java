@@ -0,0 +1,111 @@
+package com.p4th.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색 색인용 분석기.
+ *   - NFKC 정규화로 전각/반각 문자를 통일하고 영문은 소문자로 변환
+ *   - 한글 연속 구간은 음절 bigram 으로 색인하고, 제목/닉네임은 unigram 도 함께 색인한다
+ *     (검색어는 2음절 이상이면 bigram, 1음절이면 unigram 으로 분석하므로 2음절 검색어는 LIKE '%검색어%' 와 같은 범위를 찾고,
+ *      3음절 이상은 bigram 교집합으로 LIKE 결과를 모두 포함하며, 1음절 검색어는 제목/닉네임에서만 찾는다)
+ *   - 영문/숫자 연속 구간은 단어의 앞부분(prefix)을 MAX_PREFIX_LENGTH 글자까지 모두 색인하여 "spring" 으로 "springboot" 를 찾을 수 있도록 함
+ *     (단어 중간부터 시작하는 영문 부분 검색은 지원하지 않음)
+ * 본문은 길이를 자르지 않는 대신 bigram 만 색인하여, 문서당 단어 수가 본문 글자 수를 넘지 않는다.
+ */
+public class KoreanNgramAnalyzer {
+
+    // 영문/숫자 단어에서 색인하는 앞부분 최대 길이 (더 긴 검색어는 이 길이로 잘라 검색)
+    public static final int MAX_PREFIX_LENGTH = 20;
+
+    /**
+     * 제목/닉네임 색인용 분석. 한글 구간은 unigram과 bigram을, 영문/숫자 구간은 앞부분을 모두 만든다.
+     */
+    public static List<String> analyzeForIndex(String text) {
+        return analyze(text, 1);
+    }
+
+    /**
+     * 본문 색인용 분석. 한글 구간은 bigram만 만든다 (긴 본문에서 음절 unigram 게시물 목록이 커지지 않도록).
+     */
+    public static List<String> analyzeBodyForIndex(String text) {
+        return analyze(text, 2);
+    }
+
+    /**
+     * HTML 태그를 제거한 뒤 본문 색인용으로 분석한다.
+     */
+    public static List<String> analyzeHtmlForIndex(String html) {
+        return analyzeBodyForIndex(HtmlContentUtils.extractPlainText(html));
+    }
+
+    /**
+     * 검색어 분석. 한글 구간은 2음절 이상이면 bigram, 1음절이면 unigram 을 사용한다.
+     */
+    public static List<String> analyzeForQuery(String query) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(query, (run, hangul) -> {
+            if (hangul) {
+                addNgrams(run, Math.min(run.length(), 2), tokens);
+            } else {
+                tokens.add(run.length() > MAX_PREFIX_LENGTH ? run.substring(0, MAX_PREFIX_LENGTH) : run);
+            }
+        });
+        return tokens;
+    }
+
+    private static List<String> analyze(String text, int minHangulGram) {
+        List<String> tokens = new ArrayList<>();
+        forEachRun(text, (run, hangul) -> {
+            if (hangul) {
+                for (int n = minHangulGram; n <= 2; n++) {
+                    addNgrams(run, n, tokens);
+                }
+            } else {
+                for (int length = 1; length <= Math.min(run.length(), MAX_PREFIX_LENGTH); length++) {
+                    tokens.add(run.substring(0, length));
+                }
+            }
+        });
+        return tokens;
+    }
+
+    private interface RunConsumer {
+        void accept(String run, boolean hangul);
+    }
+
+    // 정규화한 문자열을 한글 구간과 영문/숫자 구간으로 나누어 전달한다.
+    private static void forEachRun(String text, RunConsumer consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        boolean runHangul = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean hangul = isHangulSyllable(c);
+            boolean wordChar = hangul || Character.isLetterOrDigit(c);
+            if (start >= 0 && (!wordChar || hangul != runHangul)) {
+                consumer.accept(normalized.substring(start, i), runHangul);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                runHangul = hangul;
+            }
+        }
+    }
+
+    private static void addNgrams(String run, int n, List<String> tokens) {
+        for (int i = 0; i + n <= run.length(); i++) {
+            tokens.add(run.substring(i, i + n));
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
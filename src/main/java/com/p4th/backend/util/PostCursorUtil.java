@@ -0,0 +1,52 @@
+package com.p4th.backend.util;
+
+import com.p4th.backend.common.exception.CustomException;
+import com.p4th.backend.common.exception.ErrorCode;
+import com.p4th.backend.domain.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 페이지네이션용 커서 (created_at, post_id) 인코딩/디코딩.
+ * 클라이언트에는 내용을 알 수 없는 Base64 URL-safe 문자열로 전달한다.
+ */
+public class PostCursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지 조회용 커서: 모든 게시글보다 뒤에 위치
+    public static final PostCursor FIRST_PAGE = new PostCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+
+    @Getter
+    @AllArgsConstructor
+    public static class PostCursor {
+        private final LocalDateTime createdAt;
+        private final String postId;
+    }
+
+    public static String encode(Post post) {
+        String raw = post.getCreatedAt() + DELIMITER + post.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지 조회 시 null 또는 빈 문자열
+     * @return 디코딩된 커서, 첫 페이지면 FIRST_PAGE
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)), raw.substring(idx + 1));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+        }
+    }
+}
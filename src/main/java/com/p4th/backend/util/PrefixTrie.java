@@ -0,0 +1,186 @@
+package com.p4th.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가중치가 있는 접두어 트라이. 노드를 객체/맵 대신 병렬 배열(char[], int[])로 저장하여 메모리를 적게 쓴다.
+ * 각 노드는 하위 트리의 최대 가중치를 보관하므로, 접두어 아래에서 가중치가 큰 완성어 상위 k개를
+ * 가중치가 작은 가지를 건너뛰며(best-first) 찾는다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 한다.
+ */
+public class PrefixTrie {
+
+    private static final int NONE = -1;
+    private static final int ROOT = 0;
+
+    private char[] chars;
+    private int[] parent;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] weight;       // 이 노드에서 끝나는 키의 가중치 (0이면 키 아님)
+    private int[] maxWeight;    // 이 노드를 포함한 하위 트리의 최대 가중치
+    private String[] display;   // 이 노드에서 끝나는 키의 표시용 원문
+    private int size;
+
+    public PrefixTrie() {
+        this(1024);
+    }
+
+    public PrefixTrie(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        chars = new char[capacity];
+        parent = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        weight = new int[capacity];
+        maxWeight = new int[capacity];
+        display = new String[capacity];
+        newNode('\0', NONE);
+    }
+
+    /**
+     * 키의 가중치에 delta를 더한다 (음수이면 감소, 0 이하가 되면 키에서 제외).
+     * @param key 정규화된 키
+     * @param displayText 표시용 원문 (처음 등록될 때의 값을 유지)
+     */
+    public void add(String key, String displayText, int delta) {
+        if (key == null || key.isEmpty() || delta == 0) {
+            return;
+        }
+        int node = delta > 0 ? findOrCreate(key) : find(key);
+        if (node == NONE) {
+            return;
+        }
+        int updated = Math.max(0, weight[node] + delta);
+        weight[node] = updated;
+        if (updated == 0) {
+            display[node] = null;
+        } else if (display[node] == null) {
+            display[node] = displayText;
+        }
+        propagateMaxWeight(node);
+    }
+
+    public int getWeight(String key) {
+        int node = find(key);
+        return node == NONE ? 0 : weight[node];
+    }
+
+    /**
+     * 접두어로 시작하는 키 중 가중치가 큰 순서로 최대 limit개의 표시용 원문을 반환한다.
+     */
+    public List<String> topK(String prefix, int limit) {
+        int start = find(prefix);
+        if (start == NONE || maxWeight[start] == 0 || limit <= 0) {
+            return List.of();
+        }
+        // 우선순위가 같으면 완성어를 하위 트리보다 먼저 꺼냄
+        PriorityQueue<Candidate> queue = new PriorityQueue<>((a, b) -> a.priority != b.priority
+                ? Integer.compare(b.priority, a.priority)
+                : Boolean.compare(b.terminal, a.terminal));
+        queue.add(new Candidate(start, maxWeight[start], false));
+        List<String> results = new ArrayList<>(limit);
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate candidate = queue.poll();
+            int node = candidate.node;
+            if (candidate.terminal) {
+                results.add(display[node]);
+                continue;
+            }
+            if (weight[node] > 0) {
+                queue.add(new Candidate(node, weight[node], true));
+            }
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (maxWeight[child] > 0) {
+                    queue.add(new Candidate(child, maxWeight[child], false));
+                }
+            }
+        }
+        return results;
+    }
+
+    public int nodeCount() {
+        return size;
+    }
+
+    private int find(String key) {
+        int node = ROOT;
+        for (int i = 0; i < key.length() && node != NONE; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    private int findOrCreate(String key) {
+        int node = ROOT;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            int next = child(node, c);
+            if (next == NONE) {
+                next = newNode(c, node);
+                nextSibling[next] = firstChild[node];
+                firstChild[node] = next;
+            }
+            node = next;
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (chars[child] == c) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    // 가중치가 바뀐 노드부터 루트 방향으로 하위 트리 최대 가중치를 다시 계산 (값이 그대로인 조상에서 중단)
+    private void propagateMaxWeight(int node) {
+        boolean changedNode = true;
+        while (node != NONE) {
+            int max = weight[node];
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                max = Math.max(max, maxWeight[child]);
+            }
+            if (!changedNode && max == maxWeight[node]) {
+                return;
+            }
+            maxWeight[node] = max;
+            changedNode = false;
+            node = parent[node];
+        }
+    }
+
+    private int newNode(char c, int parentNode) {
+        if (size == chars.length) {
+            grow();
+        }
+        int node = size++;
+        chars[node] = c;
+        parent[node] = parentNode;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        weight[node] = 0;
+        maxWeight[node] = 0;
+        display[node] = null;
+        return node;
+    }
+
+    private void grow() {
+        int capacity = chars.length + (chars.length >> 1);
+        chars = Arrays.copyOf(chars, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+        maxWeight = Arrays.copyOf(maxWeight, capacity);
+        display = Arrays.copyOf(display, capacity);
+    }
+
+    private record Candidate(int node, int priority, boolean terminal) {
+    }
+}
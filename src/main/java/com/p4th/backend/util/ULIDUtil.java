@@ -6,4 +6,9 @@ public class ULIDUtil {
     public static String getULID() {
         return UlidCreator.getUlid().toString();
     }
+
+    // 같은 밀리초 안에서도 생성 순서대로 증가하는 ULID (ID 대소 비교로 생성 순서를 판단하는 경우 사용)
+    public static String getMonotonicULID() {
+        return UlidCreator.getMonotonicUlid().toString();
+    }
 }
@@ -0,0 +1,44 @@
+package com.p4th.backend.mapper;
+
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 매퍼 SQL 테스트 공통 설정.
+ * 매퍼 XML이 MySQL 전용 문법(INSERT IGNORE, ON DUPLICATE KEY UPDATE, 다중 테이블 DELETE 등)을 쓰므로
+ * Testcontainers 로 띄운 MySQL 8 에 schema/mapper-test.sql 로 테이블을 만들고 실행한다. Docker 가 없으면 건너뛴다.
+ * 테스트마다 트랜잭션이 롤백되므로 데이터는 각 테스트에서 직접 넣는다.
+ */
+@MybatisTest(properties = {
+        "mybatis.mapper-locations=classpath:mapper/*.xml",
+        "mybatis.configuration.map-underscore-to-camel-case=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:schema/mapper-test.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MapperTestSupport {
+
+    // 테스트 클래스 사이에서 Spring 컨텍스트와 함께 재사용하도록 한 번만 띄움 (종료는 Testcontainers 가 처리)
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+}
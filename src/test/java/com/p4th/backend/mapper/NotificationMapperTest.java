@@ -0,0 +1,181 @@
+package com.p4th.backend.mapper;
+
+import com.p4th.backend.domain.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationMapperTest extends MapperTestSupport {
+
+    private static final LocalDateTime JOINED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private NotificationMapper notificationMapper;
+
+    @BeforeEach
+    void setUp() {
+        user("u1", JOINED_AT);
+        user("u2", JOINED_AT);
+    }
+
+    @Test
+    void mergesPersonalAndBroadcastNotificationsNewestFirst() {
+        personal("N1", "u1", at(10, 0));
+        broadcast("B1", "u2", at(11, 0));
+        personal("N2", "u1", at(12, 0));
+        // 생성 시각이 같으면 알림 ID 역순
+        broadcast("B2", "u2", at(12, 0));
+        // 노출 대상이 아닌 알림: 본인이 작성한 공지, 가입 이전 공지, 다른 회원의 개인 알림
+        broadcast("B0", "u1", at(13, 0));
+        broadcast("A0", "u2", JOINED_AT.minusDays(1));
+        personal("N3", "u2", at(13, 0));
+
+        assertEquals(List.of("N2", "B2", "B1", "N1"), ids(notificationMapper.findNotificationsWithBroadcasts("u1", 0, 10)));
+        assertEquals(List.of("B2", "B1"), ids(notificationMapper.findNotificationsWithBroadcasts("u1", 1, 2)));
+        assertEquals(4, notificationMapper.countNotificationsWithBroadcasts("u1"));
+        assertEquals(2, notificationMapper.countUnreadBroadcasts("u1"));
+
+        Notification merged = notificationMapper.findNotificationsWithBroadcasts("u1", 1, 1).get(0);
+        assertEquals("u1", merged.getUserId());
+        assertEquals(0, merged.getReadYn());
+    }
+
+    @Test
+    void watermarkComparesBroadcastIdsWithinTheSameSecond() {
+        // 같은 초에 생성된 공지 두 건 중 앞의 것만 읽음
+        broadcast("B1", "u2", at(9, 0));
+        broadcast("B2", "u2", at(9, 0));
+        assertEquals(1, notificationMapper.insertBroadcastRead("B1", "u1"));
+
+        notificationMapper.advanceBroadcastWatermark("u1");
+        notificationMapper.deleteBroadcastReadsBelowWatermark("u1");
+
+        assertEquals("B1", jdbcTemplate.queryForObject(
+                "SELECT broadcast_read_up_to FROM user_notification_state WHERE user_id = 'u1'", String.class));
+        assertEquals(0, readRows("u1"));
+        assertEquals(1, notificationMapper.countUnreadBroadcasts("u1"));
+        List<Notification> notifications = notificationMapper.findNotificationsWithBroadcasts("u1", 0, 10);
+        assertEquals(List.of("B2", "B1"), ids(notifications));
+        assertEquals(0, notifications.get(0).getReadYn());
+        assertEquals(1, notifications.get(1).getReadYn());
+
+        // 기준 ID 이하는 다시 읽음 기록되지 않고, 이후 공지는 개별 읽음으로 기록됨
+        assertEquals(0, notificationMapper.insertBroadcastRead("B1", "u1"));
+        assertEquals(1, notificationMapper.insertBroadcastRead("B2", "u1"));
+        assertEquals(0, notificationMapper.countUnreadBroadcasts("u1"));
+    }
+
+    @Test
+    void markAllReadCutoffStopsAtTheGivenBroadcast() {
+        broadcast("B1", "u2", at(9, 0));
+        broadcast("B2", "u2", at(9, 0));
+        broadcast("B3", "u2", at(9, 1));
+        // 본인 공지는 기준 ID 계산에서 제외
+        broadcast("B4", "u1", at(9, 2));
+
+        String readUpTo = notificationMapper.findBroadcastReadUpTo("u1", "B2");
+        assertEquals("B2", readUpTo);
+        assertEquals(2, notificationMapper.countUnreadBroadcastsUpTo("u1", readUpTo));
+        notificationMapper.advanceBroadcastWatermarkTo("u1", readUpTo);
+        assertEquals(1, notificationMapper.countUnreadBroadcasts("u1"));
+
+        // 기준 ID는 뒤로 돌아가지 않음
+        notificationMapper.advanceBroadcastWatermarkTo("u1", "B1");
+        assertEquals(1, notificationMapper.countUnreadBroadcasts("u1"));
+
+        assertEquals("B3", notificationMapper.findBroadcastReadUpTo("u1", null));
+        assertNull(notificationMapper.findBroadcastReadUpTo("u1", "A"));
+    }
+
+    @Test
+    void invisibleBroadcastsAndOtherUsersNotificationsCannotBeRead() {
+        broadcast("B0", "u1", at(9, 0));
+        broadcast("A0", "u2", JOINED_AT.minusDays(1));
+        personal("N1", "u2", at(9, 0));
+
+        // 본인이 작성한 공지, 가입 이전 공지는 읽음 기록되지 않음
+        assertEquals(0, notificationMapper.insertBroadcastRead("B0", "u1"));
+        assertEquals(0, notificationMapper.insertBroadcastReads("u1", List.of("B0", "A0", "N1")));
+        assertEquals(0, readRows("u1"));
+
+        // 다른 회원의 개인 알림은 갱신되지 않고 존재하지 않는 것으로 조회됨
+        assertEquals(0, notificationMapper.updateNotificationRead("u1", "N1"));
+        assertEquals(0, notificationMapper.markNotificationsRead("u1", List.of("N1")));
+        assertFalse(notificationMapper.existsNotification("u1", "N1"));
+        assertTrue(notificationMapper.existsNotification("u2", "N1"));
+        assertEquals(0, notificationMapper.countUnreadNotifications("u1"));
+        assertEquals(1, notificationMapper.countUnreadNotifications("u2"));
+    }
+
+    @Test
+    void pageQueryAddsPostThumbnailExceptForAlerts() {
+        post("P1", "https://cdn.example.com/p1.png");
+        post("P2", null);
+        personal("N1", "u1", "COMMENT", "P1", at(9, 0));
+        // 삭제 안내(ALERT)는 게시글이 남아 있어도 썸네일을 붙이지 않음
+        personal("N2", "u1", "ALERT", "P1", at(9, 1));
+        // 썸네일이 없는 게시글, 삭제된 게시글, 게시글이 없는 알림
+        personal("N3", "u1", "COMMENT", "P2", at(9, 2));
+        personal("N4", "u1", "COMMENT", "P9", at(9, 3));
+        personal("N5", "u1", "COMMENT", null, at(9, 4));
+        broadcast("B1", "u2", "NOTICE", "P1", at(9, 5));
+        broadcast("B2", "u2", "ALERT", "P1", at(9, 6));
+
+        List<Notification> notifications = notificationMapper.findNotificationsWithBroadcasts("u1", 0, 10);
+
+        assertEquals(List.of("B2", "B1", "N5", "N4", "N3", "N2", "N1"), ids(notifications));
+        assertEquals(Arrays.asList(null, "https://cdn.example.com/p1.png", null, null, null, null,
+                "https://cdn.example.com/p1.png"), notifications.stream().map(Notification::getImageUrl).toList());
+        assertEquals("P1", notifications.get(0).getPostId());
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return JOINED_AT.plusDays(1).withHour(hour).withMinute(minute);
+    }
+
+    private static List<String> ids(List<Notification> notifications) {
+        return notifications.stream().map(Notification::getNotificationId).toList();
+    }
+
+    private int readRows(String userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM broadcast_notification_read WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private void user(String userId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO user_info (user_id, nickname, created_at) VALUES (?, ?, ?)",
+                userId, userId, createdAt);
+    }
+
+    private void post(String postId, String thumbnailUrl) {
+        jdbcTemplate.update("INSERT INTO post (post_id, board_id, user_id, title, thumbnail_url) VALUES (?, 'b1', 'u2', '제목', ?)",
+                postId, thumbnailUrl);
+    }
+
+    private void personal(String notificationId, String userId, LocalDateTime createdAt) {
+        personal(notificationId, userId, "COMMENT", null, createdAt);
+    }
+
+    private void personal(String notificationId, String userId, String type, String postId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO notification (notification_id, user_id, post_id, type, title, read_yn, created_at) "
+                + "VALUES (?, ?, ?, ?, '댓글', 0, ?)", notificationId, userId, postId, type, createdAt);
+    }
+
+    private void broadcast(String broadcastId, String authorId, LocalDateTime createdAt) {
+        broadcast(broadcastId, authorId, "NOTICE", null, createdAt);
+    }
+
+    private void broadcast(String broadcastId, String authorId, String type, String postId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO broadcast_notification (broadcast_id, post_id, author_id, type, title, created_at) "
+                + "VALUES (?, ?, ?, ?, '공지', ?)", broadcastId, postId, authorId, type, createdAt);
+    }
+}
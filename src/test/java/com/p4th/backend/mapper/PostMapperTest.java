@@ -0,0 +1,87 @@
+package com.p4th.backend.mapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PostMapperTest extends MapperTestSupport {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 30, 12, 0);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private PostMapper postMapper;
+
+    @Test
+    void reconcileCorrectsOnlyDriftedBoards() {
+        // b1: 정확한 값, b2: 틀린 값, b3: 게시글이 없는데 값이 남음, b4: 게시글 없음
+        board("b1", 3, 1);
+        board("b2", 5, 5);
+        board("b3", 2, 0);
+        board("b4", 0, 0);
+        post("p1", "b1", NOW.minusDays(30));
+        post("p2", "b1", NOW.minusDays(10));
+        post("p3", "b1", NOW.minusDays(1));
+        post("p4", "b2", NOW.minusDays(20));
+        post("p5", "b2", NOW.minusDays(2));
+
+        assertEquals(2, postMapper.reconcileBoardPostCounts(NOW.minusDays(7)));
+
+        assertCounts("b1", 3, 1);
+        assertCounts("b2", 2, 1);
+        assertCounts("b3", 0, 0);
+        assertCounts("b4", 0, 0);
+        // 게시판 정보 변경 시각은 유지
+        assertEquals(UPDATED_AT, jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM board WHERE board_id = 'b2'", LocalDateTime.class));
+
+        assertEquals(0, postMapper.reconcileBoardPostCounts(NOW.minusDays(7)));
+    }
+
+    @Test
+    void reconcileAgesPostsOutOfTheRecentWindow() {
+        board("b1", 2, 2);
+        post("p1", "b1", NOW.minusDays(6));
+        post("p2", "b1", NOW.minusDays(1));
+
+        // 경계 시각에 작성된 게시글은 최근 게시글로 셈
+        assertEquals(0, postMapper.reconcileBoardPostCounts(NOW.minusDays(6)));
+        // 기준 시각이 지나면 p1 이 최근 범위를 벗어남
+        assertEquals(1, postMapper.reconcileBoardPostCounts(NOW.minusDays(6).plusSeconds(1)));
+        assertCounts("b1", 2, 1);
+        assertEquals(0, postMapper.reconcileBoardPostCounts(NOW.minusDays(1)));
+    }
+
+    @Test
+    void adjustNeverGoesBelowZeroAndKeepsUpdatedAt() {
+        board("b1", 1, 0);
+
+        postMapper.adjustBoardPostCount("b1", 1, 1);
+        assertCounts("b1", 2, 1);
+        postMapper.adjustBoardPostCount("b1", -3, -3);
+        assertCounts("b1", 0, 0);
+        assertEquals(UPDATED_AT, jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM board WHERE board_id = 'b1'", LocalDateTime.class));
+    }
+
+    private void assertCounts(String boardId, int postCount, int recentPostCount) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT post_count, recent_post_count FROM board WHERE board_id = ?", boardId);
+        assertEquals(postCount, ((Number) row.get("post_count")).intValue(), boardId);
+        assertEquals(recentPostCount, ((Number) row.get("recent_post_count")).intValue(), boardId);
+    }
+
+    private void board(String boardId, int postCount, int recentPostCount) {
+        jdbcTemplate.update("INSERT INTO board (board_id, board_name, post_count, recent_post_count, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)", boardId, boardId, postCount, recentPostCount, UPDATED_AT);
+    }
+
+    private void post(String postId, String boardId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO post (post_id, board_id, title, created_at) VALUES (?, ?, ?, ?)",
+                postId, boardId, postId, createdAt);
+    }
+}
@@ -0,0 +1,70 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.mapper.BlockMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BlockedUsersCacheTest {
+
+    private BlockMapper blockMapper;
+    private BlockedUsersCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile List<String> blocked = List.of("u2");
+    private volatile Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        blockMapper = mock(BlockMapper.class);
+        doAnswer(invocation -> {
+            loads.incrementAndGet();
+            List<String> result = blocked;
+            duringLoad.run();
+            return result;
+        }).when(blockMapper).findBlockedByUserId(anyString());
+        cache = new BlockedUsersCache(blockMapper, 100, 600);
+    }
+
+    @Test
+    void cachesLoadedSet() {
+        assertEquals(Set.of("u2"), cache.getBlockedUserIds("u1"));
+        assertEquals(Set.of("u2"), cache.getBlockedUserIds("u1"));
+        assertEquals(1, loads.get());
+        assertEquals(Set.of(), cache.getBlockedUserIds(null));
+    }
+
+    @Test
+    void invalidateReloadsNextTime() {
+        cache.getBlockedUserIds("u1");
+        blocked = List.of("u2", "u3");
+
+        cache.invalidate("u1");
+
+        assertEquals(Set.of("u2", "u3"), cache.getBlockedUserIds("u1"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void listLoadedBeforeConcurrentInvalidateIsNotCached() {
+        // 이전 목록을 읽은 직후 다른 요청이 차단을 추가하고 무효화함
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            blocked = List.of("u2", "u3");
+            cache.invalidate("u1");
+        };
+
+        assertEquals(Set.of("u2"), cache.getBlockedUserIds("u1"));
+
+        // 무효화 이전에 읽은 목록은 캐시되지 않았으므로 다시 적재됨
+        assertEquals(Set.of("u2", "u3"), cache.getBlockedUserIds("u1"));
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,166 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.Board;
+import com.p4th.backend.domain.Category;
+import com.p4th.backend.mapper.MenuMapper;
+import com.p4th.backend.mapper.PostMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BoardTreeCacheTest {
+
+    private BoardTreeCache cache;
+    // DB 상태
+    private volatile List<Category> categories = new ArrayList<>();
+    private volatile List<Board> boards = new ArrayList<>();
+    private volatile boolean failLoad;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger fallbackQueries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        MenuMapper menuMapper = mock(MenuMapper.class);
+        doAnswer(invocation -> {
+            loads.incrementAndGet();
+            if (failLoad) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            return new ArrayList<>(categories);
+        }).when(menuMapper).findAllCategories();
+        // 적재할 때마다 새 객체를 반환하는 DB 조회와 같게 복사해서 반환
+        doAnswer(invocation -> boards.stream().map(board -> board(board.getBoardId(), board.getCategoryId())).toList())
+                .when(menuMapper).findAllBoards();
+        PostMapper postMapper = mock(PostMapper.class);
+        doAnswer(invocation -> {
+            fallbackQueries.incrementAndGet();
+            return board(invocation.getArgument(0), "c9");
+        }).when(postMapper).getBoardWithCategory(anyString());
+        cache = new BoardTreeCache(menuMapper, postMapper);
+
+        categories.add(category("c1", 1, 1));
+        categories.add(category("c2", 0, 0));
+        boards.add(board("b1", "c1"));
+        boards.add(board("b2", "c1"));
+        boards.add(board("b3", "c2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void buildsExposedTreeFromOneLoad() {
+        assertEquals(List.of("c1"), categoryIds(cache.getExposedCategories()));
+        assertEquals(List.of("b1", "b2"), boardIds(cache.getExposedBoards("c1")));
+        assertEquals(List.of(), cache.getExposedBoards("c2"));
+        assertEquals(List.of(), cache.getExposedBoards("unknown"));
+
+        Board hidden = cache.getBoard("b3");
+        assertEquals("카테고리c2", hidden.getCategoryName());
+        assertEquals(0, hidden.getIsNotice());
+        assertEquals(1, cache.getBoard("b1").getIsNotice());
+        assertEquals(1, loads.get());
+
+        // 스냅샷에 없는 게시판은 DB에서 조회
+        assertEquals("c9", cache.getBoard("b9").getCategoryId());
+        assertEquals(1, fallbackQueries.get());
+    }
+
+    @Test
+    void snapshotListsCannotBeModified() {
+        assertThrows(UnsupportedOperationException.class, () -> cache.getExposedCategories().add(category("c3", 1, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> cache.getExposedBoards("c1").add(board("b4", "c1")));
+    }
+
+    @Test
+    void invalidateInsideTransactionSwapsSnapshotAfterCommit() {
+        List<Board> before = cache.getExposedBoards("c1");
+        TransactionSynchronizationManager.initSynchronization();
+
+        boards.add(board("b4", "c1"));
+        cache.invalidate();
+
+        // 커밋 전에는 이전 스냅샷을 그대로 사용
+        assertSame(before, cache.getExposedBoards("c1"));
+        assertEquals(1, loads.get());
+
+        commit();
+
+        assertEquals(List.of("b1", "b2", "b4"), boardIds(cache.getExposedBoards("c1")));
+        assertEquals(2, loads.get());
+        // 이전 스냅샷을 읽고 있던 쪽에는 영향이 없음
+        assertEquals(List.of("b1", "b2"), boardIds(before));
+    }
+
+    @Test
+    void invalidateInsideRolledBackTransactionKeepsSnapshot() {
+        cache.getExposedBoards("c1");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidate();
+        // 롤백: afterCommit 이 호출되지 않음
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(List.of("b1", "b2"), boardIds(cache.getExposedBoards("c1")));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void failedReloadKeepsPreviousSnapshot() {
+        cache.getExposedBoards("c1");
+        failLoad = true;
+
+        cache.invalidate();
+
+        assertEquals(List.of("b1", "b2"), boardIds(cache.getExposedBoards("c1")));
+        assertEquals(2, loads.get());
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static List<String> categoryIds(List<Category> categories) {
+        return categories.stream().map(Category::getCategoryId).toList();
+    }
+
+    private static List<String> boardIds(List<Board> boards) {
+        return boards.stream().map(Board::getBoardId).toList();
+    }
+
+    private static Category category(String categoryId, int mainExposure, int isNotice) {
+        Category category = new Category();
+        category.setCategoryId(categoryId);
+        category.setCategoryName("카테고리" + categoryId);
+        category.setMainExposure(mainExposure);
+        category.setIsNotice(isNotice);
+        return category;
+    }
+
+    private static Board board(String boardId, String categoryId) {
+        Board board = new Board();
+        board.setBoardId(boardId);
+        board.setCategoryId(categoryId);
+        board.setBoardName("게시판" + boardId);
+        return board;
+    }
+}
@@ -0,0 +1,141 @@
+package com.p4th.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class HomeResponseCacheTest {
+
+    private static final String KEY = HomeResponseCache.BANNERS;
+
+    private TaskScheduler taskScheduler;
+    // 예약된 백그라운드 갱신 (테스트에서 직접 실행)
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile Runnable duringLoad = () -> { };
+    private volatile boolean failLoad;
+
+    // 적재할 때마다 "v1", "v2", ... 를 반환
+    private final Supplier<String> loader = () -> {
+        duringLoad.run();
+        if (failLoad) {
+            throw new IllegalStateException("DB 연결 실패");
+        }
+        return "v" + loads.incrementAndGet();
+    };
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler = mock(TaskScheduler.class);
+        doAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        }).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void firstGetLoadsAndLaterGetsServeCachedValue() {
+        HomeResponseCache cache = new HomeResponseCache(taskScheduler, 60);
+
+        assertEquals("v1", cache.get(KEY, loader));
+        assertEquals("v1", cache.get(KEY, loader));
+
+        assertEquals(1, loads.get());
+        assertEquals(0, scheduled.size());
+    }
+
+    @Test
+    void expiredValueIsServedWhileOneRefreshRunsInBackground() {
+        // 갱신 주기 0초: 매 조회가 갱신 시점을 지난 상태
+        HomeResponseCache cache = new HomeResponseCache(taskScheduler, 0);
+        cache.get(KEY, loader);
+
+        assertEquals("v1", cache.get(KEY, loader));
+        assertEquals("v1", cache.get(KEY, loader));
+        // 갱신이 끝나기 전까지는 한 번만 예약
+        assertEquals(1, scheduled.size());
+
+        runScheduled();
+        assertEquals("v2", cache.get(KEY, loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateRefreshesInBackgroundAndKeepsServingOldValue() {
+        HomeResponseCache cache = new HomeResponseCache(taskScheduler, 60);
+        cache.get(KEY, loader);
+        cache.invalidate("unknown");
+        assertEquals(0, scheduled.size());
+
+        cache.invalidate(KEY);
+
+        assertEquals("v1", cache.get(KEY, loader));
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals("v2", cache.get(KEY, loader));
+        assertEquals(0, scheduled.size());
+    }
+
+    @Test
+    void invalidateDuringRefreshKeepsResultStale() {
+        HomeResponseCache cache = new HomeResponseCache(taskScheduler, 60);
+        cache.get(KEY, loader);
+        cache.invalidate(KEY);
+        // 갱신이 이전 데이터를 읽는 도중 다시 무효화됨
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            cache.invalidate(KEY);
+        };
+        runScheduled();
+
+        // 갱신 결과는 반환하지만 여전히 오래된 값으로 취급되어 다음 조회 시 다시 갱신
+        assertEquals("v2", cache.get(KEY, loader));
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals("v3", cache.get(KEY, loader));
+        assertEquals(0, scheduled.size());
+    }
+
+    @Test
+    void failedRefreshKeepsOldValueUntilNextInterval() {
+        HomeResponseCache cache = new HomeResponseCache(taskScheduler, 60);
+        cache.get(KEY, loader);
+        cache.invalidate(KEY);
+        failLoad = true;
+
+        runScheduled();
+
+        assertEquals("v1", cache.get(KEY, loader));
+        // 실패 후에는 갱신 주기가 지날 때까지 다시 시도하지 않음
+        assertEquals(0, scheduled.size());
+    }
+
+    @Test
+    void invalidateAllRefreshesEveryKey() {
+        HomeResponseCache cache = new HomeResponseCache(taskScheduler, 60);
+        cache.get(KEY, loader);
+        cache.get(HomeResponseCache.popularPostsKey("DAILY"), loader);
+
+        cache.invalidateAll();
+        runScheduled();
+
+        assertEquals(4, loads.get());
+    }
+}
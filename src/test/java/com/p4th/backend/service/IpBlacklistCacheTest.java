@@ -0,0 +1,66 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.mapper.IpBlacklistMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class IpBlacklistCacheTest {
+
+    private IpBlacklistMapper ipBlacklistMapper;
+    private IpBlacklistCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile List<String> blocked = List.of("10.0.0.1");
+    private volatile Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        ipBlacklistMapper = mock(IpBlacklistMapper.class);
+        doAnswer(invocation -> {
+            loads.incrementAndGet();
+            List<String> result = blocked;
+            duringLoad.run();
+            return result;
+        }).when(ipBlacklistMapper).findBlockedIpAddresses();
+        cache = new IpBlacklistCache(ipBlacklistMapper);
+    }
+
+    @Test
+    void loadsOnceAndReloadsOnInvalidate() {
+        assertTrue(cache.isBlocked("10.0.0.1"));
+        assertFalse(cache.isBlocked("10.0.0.2"));
+        assertFalse(cache.isBlocked(null));
+        assertEquals(1, loads.get());
+
+        blocked = List.of("10.0.0.2");
+        cache.invalidate();
+
+        assertFalse(cache.isBlocked("10.0.0.1"));
+        assertTrue(cache.isBlocked("10.0.0.2"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void periodicReloadDoesNotOverwriteConcurrentChange() {
+        cache.isBlocked("10.0.0.1");
+        // 주기적 재적재가 이전 목록을 읽은 직후 관리자가 IP를 차단하고 다시 적재함
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            blocked = List.of("10.0.0.1", "10.0.0.2");
+            cache.invalidate();
+        };
+
+        cache.reload();
+
+        assertTrue(cache.isBlocked("10.0.0.2"));
+        assertEquals(3, loads.get());
+    }
+}
@@ -0,0 +1,139 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.config.NotificationRetentionProperties;
+import com.p4th.backend.domain.NotificationType;
+import com.p4th.backend.mapper.NotificationMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class NotificationRetentionServiceTest {
+
+    private static final int CHUNK_SIZE = 3;
+
+    private NotificationRetentionService service;
+    private final NotificationRetentionProperties properties = new NotificationRetentionProperties();
+    // 타입별 보관 대상 알림 ID (DB 상태)
+    private final Map<NotificationType, List<String>> personal = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, List<String>> broadcasts = new EnumMap<>(NotificationType.class);
+    private final List<String> archived = new ArrayList<>();
+    private final List<String> deletedBroadcastReads = new ArrayList<>();
+    private final AtomicInteger findQueries = new AtomicInteger();
+    private final AtomicInteger invalidations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        NotificationMapper notificationMapper = mock(NotificationMapper.class);
+        doAnswer(invocation -> find(personal, invocation.getArgument(0), invocation.getArgument(2)))
+                .when(notificationMapper).findArchivableNotificationIds(any(), any(), anyInt());
+        doAnswer(invocation -> find(broadcasts, invocation.getArgument(0), invocation.getArgument(2)))
+                .when(notificationMapper).findArchivableBroadcastIds(any(), any(), anyInt());
+        doAnswer(invocation -> archive(invocation.getArgument(0)))
+                .when(notificationMapper).archiveNotifications(anyList());
+        doAnswer(invocation -> archive(invocation.getArgument(0)))
+                .when(notificationMapper).archiveBroadcastNotifications(anyList());
+        doAnswer(invocation -> delete(personal, invocation.getArgument(0)))
+                .when(notificationMapper).deleteNotifications(anyList());
+        doAnswer(invocation -> delete(broadcasts, invocation.getArgument(0)))
+                .when(notificationMapper).deleteBroadcastNotifications(anyList());
+        doAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            deletedBroadcastReads.addAll(ids);
+            return ids.size();
+        }).when(notificationMapper).deleteBroadcastReads(anyList());
+
+        UnreadCountService unreadCountService = mock(UnreadCountService.class);
+        doAnswer(invocation -> invalidations.incrementAndGet()).when(unreadCountService).invalidateAll();
+
+        properties.setChunkSize(CHUNK_SIZE);
+        properties.getReadDays().put(NotificationType.COMMENT, 90);
+        properties.getReadDays().put(NotificationType.NOTICE, 180);
+        properties.getReadDays().put(NotificationType.ALERT, 0);
+        service = new NotificationRetentionService(notificationMapper, properties,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), unreadCountService,
+                new SimpleMeterRegistry());
+    }
+
+    private List<String> find(Map<NotificationType, List<String>> table, NotificationType type, int limit) {
+        findQueries.incrementAndGet();
+        List<String> ids = table.getOrDefault(type, List.of());
+        return new ArrayList<>(ids.subList(0, Math.min(limit, ids.size())));
+    }
+
+    private int archive(List<String> ids) {
+        archived.addAll(ids);
+        return ids.size();
+    }
+
+    private int delete(Map<NotificationType, List<String>> table, List<String> ids) {
+        table.values().forEach(rows -> rows.removeAll(ids));
+        return ids.size();
+    }
+
+    private static List<String> ids(String prefix, int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(prefix + i);
+        }
+        return ids;
+    }
+
+    @Test
+    void exactlyChunkSizeRowsEndsWithOneEmptyQuery() {
+        personal.put(NotificationType.COMMENT, ids("c", CHUNK_SIZE));
+
+        Map<NotificationType, Integer> result = service.archiveExpired();
+
+        assertEquals(CHUNK_SIZE, result.get(NotificationType.COMMENT));
+        assertEquals(0, result.get(NotificationType.NOTICE));
+        // COMMENT 개인 알림 2회(가득 찬 chunk + 빈 조회), 나머지는 1회씩
+        assertEquals(2 + 1 + 1 + 1, findQueries.get());
+        assertEquals(ids("c", CHUNK_SIZE), archived);
+        assertEquals(0, personal.get(NotificationType.COMMENT).size());
+        assertEquals(0, invalidations.get());
+    }
+
+    @Test
+    void archivesAllChunksUntilAPartialOne() {
+        personal.put(NotificationType.COMMENT, ids("c", 2 * CHUNK_SIZE + 1));
+
+        Map<NotificationType, Integer> result = service.archiveExpired();
+
+        assertEquals(2 * CHUNK_SIZE + 1, result.get(NotificationType.COMMENT));
+        assertEquals(3 + 1 + 1 + 1, findQueries.get());
+        assertEquals(ids("c", 2 * CHUNK_SIZE + 1), archived);
+        // 보관 기간이 없는 타입은 처리하지 않음
+        assertNull(result.get(NotificationType.ALERT));
+        assertNull(result.get(NotificationType.RECOMMENT));
+    }
+
+    @Test
+    void broadcastArchivalInvalidatesUnreadCountsOnce() {
+        broadcasts.put(NotificationType.NOTICE, ids("b", CHUNK_SIZE + 1));
+        broadcasts.put(NotificationType.COMMENT, ids("x", 1));
+
+        Map<NotificationType, Integer> result = service.archiveExpired();
+
+        assertEquals(CHUNK_SIZE + 1, result.get(NotificationType.NOTICE));
+        assertEquals(1, result.get(NotificationType.COMMENT));
+        // 보관된 전체 알림의 개별 읽음 기록도 함께 삭제
+        assertEquals(archived, deletedBroadcastReads);
+        assertEquals(1, invalidations.get());
+    }
+}
@@ -0,0 +1,181 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.common.exception.CustomException;
+import com.p4th.backend.common.exception.ErrorCode;
+import com.p4th.backend.mapper.MapperTestSupport;
+import com.p4th.backend.mapper.NotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 알림 읽음 처리를 실제 SQL로 검증한다 (MySQL 컨테이너, Docker 가 없으면 건너뜀).
+ */
+@Import(NotificationService.class)
+class NotificationServiceTest extends MapperTestSupport {
+
+    private static final LocalDateTime JOINED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private NotificationMapper notificationMapper;
+    @MockBean
+    private UnreadCountService unreadCountService;
+
+    @BeforeEach
+    void setUp() {
+        user("u1", JOINED_AT);
+        user("u2", JOINED_AT);
+    }
+
+    @Test
+    void otherUsersPersonalNotificationIsNotFound() {
+        personal("N1", "u2", at(9, 0));
+
+        CustomException e = assertThrows(CustomException.class,
+                () -> notificationService.markNotificationAsRead("u1", "N1"));
+
+        assertEquals(ErrorCode.NOTIFICATION_NOT_FOUND, e.getErrorCode());
+        assertEquals(1, notificationMapper.countUnreadNotifications("u2"));
+        verify(unreadCountService, never()).adjustNotificationCount(anyString(), anyInt());
+    }
+
+    @Test
+    void invisibleBroadcastIsIgnored() {
+        // 본인이 작성한 공지와 가입 이전 공지
+        broadcast("B0", "u1", at(9, 0));
+        broadcast("A0", "u2", JOINED_AT.minusDays(1));
+
+        assertTrue(notificationService.markNotificationAsRead("u1", "B0"));
+        assertTrue(notificationService.markNotificationAsRead("u1", "A0"));
+
+        assertEquals(0, readRows("u1"));
+        verify(unreadCountService, never()).adjustNotificationCount(anyString(), anyInt());
+    }
+
+    @Test
+    void readingLastUnreadBroadcastAdvancesWatermark() {
+        broadcast("B1", "u2", at(9, 0));
+        broadcast("B2", "u2", at(9, 0));
+
+        assertTrue(notificationService.markNotificationAsRead("u1", "B2"));
+        // 읽지 않은 공지(B1)가 남아 있으면 개별 읽음 기록만 남김
+        assertEquals(1, readRows("u1"));
+        assertEquals(1, notificationMapper.countUnreadBroadcasts("u1"));
+
+        assertTrue(notificationService.markNotificationAsRead("u1", "B1"));
+        // 이미 읽은 공지는 다시 감소시키지 않음
+        assertTrue(notificationService.markNotificationAsRead("u1", "B1"));
+
+        assertEquals(0, readRows("u1"));
+        assertEquals(0, notificationMapper.countUnreadBroadcasts("u1"));
+        assertEquals("B2", jdbcTemplate.queryForObject(
+                "SELECT broadcast_read_up_to FROM user_notification_state WHERE user_id = 'u1'", String.class));
+        verify(unreadCountService, times(2)).adjustNotificationCount("u1", -1);
+    }
+
+    @Test
+    void markAllReadReturnsTheDropInUnreadCount() {
+        // 알림 ID는 생성 순서 (개인 알림 N, 공지 B)
+        personal("01N", "u1", at(9, 0));
+        broadcast("02B", "u2", at(9, 1));
+        broadcast("03B", "u2", at(9, 1));
+        personal("04N", "u1", at(9, 2));
+        broadcast("05B", "u2", at(9, 3));
+        personal("06N", "u1", at(9, 4));
+        broadcast("07B", "u1", at(9, 5));
+        personal("08N", "u2", at(9, 6));
+        notificationService.markNotificationAsRead("u1", "03B");
+        assertEquals(5, unread("u1"));
+
+        assertMarkAllReadDrop("04N", 3);
+        // 기준 ID 이하의 개별 읽음 기록은 정리됨
+        assertEquals(0, readRows("u1"));
+        assertMarkAllReadDrop(null, 2);
+        assertMarkAllReadDrop(null, 0);
+
+        assertEquals(1, notificationMapper.countUnreadNotifications("u2"));
+        verify(unreadCountService).adjustNotificationCount("u1", -3);
+        verify(unreadCountService).adjustNotificationCount("u1", -2);
+    }
+
+    @Test
+    void markReadReturnsTheDropInUnreadCount() {
+        personal("01N", "u1", at(9, 0));
+        broadcast("02B", "u2", at(9, 1));
+        broadcast("03B", "u2", at(9, 1));
+        broadcast("04B", "u2", at(9, 2));
+        broadcast("05B", "u1", at(9, 3));
+        personal("06N", "u2", at(9, 4));
+        notificationService.markNotificationAsRead("u1", "03B");
+        assertEquals(3, unread("u1"));
+
+        // 중복, 이미 읽은 공지, 본인 공지, 다른 회원의 알림, 없는 ID는 세지 않음
+        assertMarkReadDrop(List.of("01N", "02B", "02B", "03B", "05B", "06N", "99X"), 2);
+        assertMarkReadDrop(List.of("01N", "02B"), 0);
+        // 마지막 공지를 읽으면 읽음 기준 ID가 올라가도 개수는 그대로 맞음
+        assertMarkReadDrop(List.of("04B"), 1);
+        assertEquals(0, readRows("u1"));
+        assertEquals(0, unread("u1"));
+
+        CustomException e = assertThrows(CustomException.class, () -> notificationService.markRead("u1", List.of()));
+        assertEquals(ErrorCode.INVALID_INPUT, e.getErrorCode());
+    }
+
+    private void assertMarkAllReadDrop(String upToNotificationId, int expected) {
+        int before = unread("u1");
+        int updated = notificationService.markAllRead("u1", upToNotificationId);
+        assertEquals(expected, updated);
+        assertEquals(before - updated, unread("u1"));
+    }
+
+    private void assertMarkReadDrop(List<String> notificationIds, int expected) {
+        int before = unread("u1");
+        int updated = notificationService.markRead("u1", notificationIds);
+        assertEquals(expected, updated);
+        assertEquals(before - updated, unread("u1"));
+    }
+
+    private int unread(String userId) {
+        return notificationMapper.countUnreadNotifications(userId) + notificationMapper.countUnreadBroadcasts(userId);
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return JOINED_AT.plusDays(1).withHour(hour).withMinute(minute);
+    }
+
+    private int readRows(String userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM broadcast_notification_read WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private void user(String userId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO user_info (user_id, nickname, created_at) VALUES (?, ?, ?)",
+                userId, userId, createdAt);
+    }
+
+    private void personal(String notificationId, String userId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO notification (notification_id, user_id, type, title, read_yn, created_at) "
+                + "VALUES (?, ?, 'COMMENT', '댓글', 0, ?)", notificationId, userId, createdAt);
+    }
+
+    private void broadcast(String broadcastId, String authorId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO broadcast_notification (broadcast_id, author_id, type, title, created_at) "
+                + "VALUES (?, ?, 'NOTICE', '공지', ?)", broadcastId, authorId, createdAt);
+    }
+}
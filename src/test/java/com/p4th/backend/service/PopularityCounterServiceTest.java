@@ -0,0 +1,184 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.PopularityBucket;
+import com.p4th.backend.domain.PostHistoryLog;
+import com.p4th.backend.mapper.PopularityBucketMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PopularityCounterServiceTest {
+
+    private static final long HOUR_MS = 60 * 60_000L;
+
+    private PopularityBucketMapper popularityBucketMapper;
+    private PopularityCounterService service;
+    // ON DUPLICATE KEY UPDATE 로 누적된 테이블 내용: "단위|버킷 시작|게시글" -> [조회수, 댓글 수]
+    private final Map<String, long[]> table = new ConcurrentHashMap<>();
+    private final List<PopularityBucket> written = new ArrayList<>();
+    private final AtomicBoolean failUpsert = new AtomicBoolean();
+    private List<PopularityBucket> stored = List.of();
+
+    @BeforeEach
+    void setUp() {
+        popularityBucketMapper = mock(PopularityBucketMapper.class);
+        doAnswer(invocation -> {
+            if (failUpsert.get()) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            List<PopularityBucket> rows = invocation.getArgument(0);
+            for (PopularityBucket row : rows) {
+                written.add(row);
+                long[] total = table.computeIfAbsent(key(row), k -> new long[2]);
+                total[0] += row.getViewCount();
+                total[1] += row.getCommentCount();
+            }
+            return null;
+        }).when(popularityBucketMapper).upsertBuckets(anyList());
+        doAnswer(invocation -> {
+            String unit = invocation.getArgument(0);
+            return stored.stream().filter(row -> row.getBucketUnit().equals(unit)).toList();
+        }).when(popularityBucketMapper).findBucketsSince(anyString(), any());
+        service = new PopularityCounterService(popularityBucketMapper);
+    }
+
+    @Test
+    void checkpointAddsOnlyIncrementsSinceLastCheckpoint() {
+        for (int i = 0; i < 3; i++) {
+            service.recordView("p1");
+        }
+        service.recordComment("p1");
+        service.checkpoint();
+
+        service.recordView("p1");
+        written.clear();
+        service.checkpoint();
+
+        // 두 번째 체크포인트는 새로 늘어난 조회 1건만 저장 (분/시간 버킷 각각)
+        assertEquals(2, written.size());
+        for (PopularityBucket row : written) {
+            assertEquals(1, row.getViewCount());
+            assertEquals(0, row.getCommentCount());
+        }
+        assertEquals(4, totalViews("p1", "MINUTE"));
+        assertEquals(4, totalViews("p1", "HOUR"));
+
+        // 변경이 없으면 저장하지 않음
+        written.clear();
+        service.checkpoint();
+        assertTrue(written.isEmpty());
+    }
+
+    @Test
+    void checkpointsFromSeveralInstancesAreSummed() {
+        PopularityCounterService other = new PopularityCounterService(popularityBucketMapper);
+        service.recordView("p1");
+        service.recordView("p1");
+        other.recordView("p1");
+
+        service.checkpoint();
+        other.checkpoint();
+
+        assertEquals(3, totalViews("p1", "HOUR"));
+    }
+
+    @Test
+    void failedCheckpointIsRetried() {
+        service.recordView("p1");
+        failUpsert.set(true);
+
+        assertThrows(IllegalStateException.class, service::checkpoint);
+        assertTrue(table.isEmpty());
+
+        service.recordView("p1");
+        failUpsert.set(false);
+        service.checkpoint();
+
+        assertEquals(2, totalViews("p1", "MINUTE"));
+        assertEquals(2, totalViews("p1", "HOUR"));
+    }
+
+    @Test
+    void restoredCountsAreRankedButNotWrittenAgain() {
+        long now = System.currentTimeMillis();
+        stored = List.of(
+                bucket("MINUTE", now - now % 60_000L, "p1", 5, 2),
+                bucket("HOUR", now - now % HOUR_MS, "p1", 5, 2));
+        service.restore();
+
+        service.recordView("p1");
+        service.checkpoint();
+
+        assertEquals(2, written.size());
+        for (PopularityBucket row : written) {
+            assertEquals(1, row.getViewCount());
+            assertEquals(0, row.getCommentCount());
+        }
+        PostHistoryLog entry = service.getLiveRanking("hourly").get(0);
+        assertEquals("p1", entry.getPostId());
+        assertEquals(6, entry.getViewCount());
+        assertEquals(2, entry.getCommentCount());
+    }
+
+    @Test
+    void dailyRankingCoversOnlyTheLast24Hours() {
+        long now = System.currentTimeMillis();
+        long currentHour = now - now % HOUR_MS;
+        stored = List.of(
+                bucket("HOUR", currentHour - 23 * HOUR_MS, "inside", 10, 0),
+                bucket("HOUR", currentHour - 24 * HOUR_MS, "edge", 100, 0),
+                bucket("HOUR", currentHour - 25 * HOUR_MS, "outside", 1000, 0));
+        service.restore();
+
+        List<PostHistoryLog> ranking = service.getLiveRanking("DAILY");
+
+        assertEquals(10, find(ranking, "inside").getViewCount());
+        // 구간 시작에 걸친 버킷은 구간에 들어오는 시간 비율만큼만 반영
+        PostHistoryLog edge = find(ranking, "edge");
+        assertTrue(edge == null || edge.getViewCount() <= 100);
+        assertNull(find(ranking, "outside"));
+    }
+
+    private long totalViews(String postId, String unit) {
+        return table.entrySet().stream()
+                .filter(e -> e.getKey().startsWith(unit + "|") && e.getKey().endsWith("|" + postId))
+                .mapToLong(e -> e.getValue()[0])
+                .sum();
+    }
+
+    private static PostHistoryLog find(List<PostHistoryLog> ranking, String postId) {
+        return ranking.stream().filter(entry -> entry.getPostId().equals(postId)).findFirst().orElse(null);
+    }
+
+    private static String key(PopularityBucket row) {
+        return row.getBucketUnit() + "|" + row.getBucketStart() + "|" + row.getPostId();
+    }
+
+    private static PopularityBucket bucket(String unit, long startMillis, String postId, long views, long comments) {
+        PopularityBucket row = new PopularityBucket();
+        row.setBucketUnit(unit);
+        row.setBucketStart(LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), ZoneId.systemDefault()));
+        row.setPostId(postId);
+        row.setViewCount(views);
+        row.setCommentCount(comments);
+        return row;
+    }
+}
@@ -0,0 +1,189 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.Post;
+import com.p4th.backend.mapper.PostMapper;
+import com.p4th.backend.util.KoreanNgramAnalyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PostSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private PostMapper postMapper;
+    private PostSearchIndex index;
+    private List<Post> stored = new ArrayList<>();
+    private Runnable duringRebuild = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        // post_id 순 페이지 조회
+        doAnswer(invocation -> {
+            String afterPostId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            duringRebuild.run();
+            return stored.stream()
+                    .filter(post -> afterPostId == null || post.getPostId().compareTo(afterPostId) > 0)
+                    .sorted((a, b) -> a.getPostId().compareTo(b.getPostId()))
+                    .limit(limit)
+                    .toList();
+        }).when(postMapper).findPostsForSearchIndex(any(), anyInt());
+        index = new PostSearchIndex(postMapper);
+    }
+
+    @Test
+    void matchesAllTermsAndRanksTitleAboveBody() {
+        index.upsert(post("p1", "b1", "u1", "자유 게시판 글", "<p>김밥천국 후기</p>", 1));
+        index.upsert(post("p2", "b1", "u2", "김밥천국 방문기", "<p>맛있었다</p>", 2));
+        index.upsert(post("p3", "b2", "u3", "라면 맛집", "<p>김밥 없음</p>", 3));
+
+        assertEquals(List.of("p2", "p1"), index.search("김밥천국", null, Set.of(), 0, 10).getPostIds());
+        assertEquals(List.of("p3"), index.search("라면 김밥", null, Set.of(), 0, 10).getPostIds());
+        assertEquals(0, index.search("라면 후기", null, Set.of(), 0, 10).getTotal());
+        assertEquals(0, index.search("없는단어", null, Set.of(), 0, 10).getTotal());
+        assertEquals(0, index.search("   ", null, Set.of(), 0, 10).getTotal());
+    }
+
+    @Test
+    void boardFilterBlockedAuthorsAndPaging() {
+        for (int i = 0; i < 10; i++) {
+            index.upsert(post("p" + i, i % 2 == 0 ? "even" : "odd", "u" + i, "공지 " + i, "", i));
+        }
+
+        PostSearchIndex.SearchHits page = index.search("공지", null, Set.of(), 2, 3);
+        // 점수가 같으면 최신순
+        assertEquals(List.of("p7", "p6", "p5"), page.getPostIds());
+        assertEquals(10, page.getTotal());
+
+        PostSearchIndex.SearchHits even = index.search("공지", "even", Set.of("u8"), 0, 10);
+        assertEquals(List.of("p6", "p4", "p2", "p0"), even.getPostIds());
+        assertEquals(4, even.getTotal());
+        assertEquals("u6", even.getHits().get(0).getUserId());
+    }
+
+    @Test
+    void updateReplacesTermsAndRemoveDropsPost() {
+        index.upsert(post("p1", "b1", "u1", "spring 설정", "", 1));
+        index.upsert(post("p1", "b1", "u1", "mybatis 설정", "", 1));
+
+        assertEquals(0, index.search("spring", null, Set.of(), 0, 10).getTotal());
+        assertEquals(List.of("p1"), index.search("mybatis", null, Set.of(), 0, 10).getPostIds());
+        assertEquals(1, index.search("설정", null, Set.of(), 0, 10).getTotal());
+
+        index.remove("p1");
+        index.remove("unknown");
+        assertEquals(0, index.search("설정", null, Set.of(), 0, 10).getTotal());
+
+        index.upsert(post("p1", "b1", "u1", "spring 다시", "", 1));
+        assertEquals(List.of("p1"), index.search("spring", null, Set.of(), 0, 10).getPostIds());
+    }
+
+    @Test
+    void rebuildKeepsUpdatesMadeWhileLoading() {
+        for (int i = 0; i < 1200; i++) {
+            stored.add(post(String.format("p%04d", i), "b1", "u1", "게시글 " + i, "", i));
+        }
+        index.upsert(post("stale", "b1", "u1", "게시글 이전", "", 0));
+        // 재구성 중 p0001이 수정되고 p0002가 삭제됨 (DB 조회 결과에는 이전 내용이 남아 있음)
+        duringRebuild = () -> {
+            duringRebuild = () -> { };
+            index.upsert(post("p0001", "b1", "u1", "수정된 제목", "", 1));
+            index.remove("p0002");
+        };
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(1198, index.search("게시글", null, Set.of(), 0, 0).getTotal());
+        assertEquals(List.of("p0001"), index.search("수정된", null, Set.of(), 0, 10).getPostIds());
+        assertEquals(0, index.search("이전", null, Set.of(), 0, 10).getTotal());
+    }
+
+    @Test
+    void randomUpdatesMatchBruteForceSearch() {
+        String[] words = {"김밥", "천국", "라면", "맛집", "서울", "spring", "springboot", "java", "밥", "국"};
+        Random random = new Random(3);
+        Map<String, Post> posts = new HashMap<>();
+
+        for (int step = 0; step < 4000; step++) {
+            String postId = "p" + random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                index.remove(postId);
+                posts.remove(postId);
+            } else {
+                Post post = post(postId, "b" + random.nextInt(3), "u" + random.nextInt(20),
+                        randomText(random, words, 3), "<p>" + randomText(random, words, 8) + "</p>", step);
+                index.upsert(post);
+                posts.put(postId, post);
+            }
+
+            if (step % 40 == 0) {
+                String query = randomText(random, words, 1 + random.nextInt(2));
+                String boardId = random.nextBoolean() ? null : "b" + random.nextInt(3);
+                Set<String> blocked = Set.of("u" + random.nextInt(20));
+                Set<String> expected = new TreeSet<>();
+                for (Post post : posts.values()) {
+                    if ((boardId == null || boardId.equals(post.getBoardId()))
+                            && !blocked.contains(post.getUserId()) && matches(post, query)) {
+                        expected.add(post.getPostId());
+                    }
+                }
+                PostSearchIndex.SearchHits hits = index.search(query, boardId, blocked, 0, 1000);
+                assertEquals(expected.size(), hits.getTotal(), query);
+                assertEquals(expected, new TreeSet<>(hits.getPostIds()), query);
+                assertFalse(hits.getPostIds().size() > expected.size());
+            }
+        }
+    }
+
+    private static boolean matches(Post post, String query) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(KoreanNgramAnalyzer.analyzeForIndex(post.getTitle()));
+        terms.addAll(KoreanNgramAnalyzer.analyzeForIndex(post.getNickname()));
+        terms.addAll(KoreanNgramAnalyzer.analyzeHtmlForIndex(post.getContent()));
+        List<String> queryTerms = KoreanNgramAnalyzer.analyzeForQuery(query);
+        return !queryTerms.isEmpty() && terms.containsAll(queryTerms);
+    }
+
+    private static String randomText(Random random, String[] words, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(words[random.nextInt(words.length)]);
+        }
+        return text.toString();
+    }
+
+    private static Post post(String postId, String boardId, String userId, String title, String content, int minutes) {
+        Post post = new Post();
+        post.setPostId(postId);
+        post.setBoardId(boardId);
+        post.setUserId(userId);
+        post.setNickname("닉네임");
+        post.setTitle(title);
+        post.setContent(content);
+        post.setCreatedAt(BASE_TIME.plusMinutes(minutes));
+        return post;
+    }
+}
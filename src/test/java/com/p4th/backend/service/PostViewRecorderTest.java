@@ -0,0 +1,104 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.PostView;
+import com.p4th.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PostViewRecorderTest {
+
+    private PostMapper postMapper;
+    // post_view 에 저장된 조회 기록
+    private final List<String> postViews = new ArrayList<>();
+    // recent_post_view 에 저장 요청된 기록
+    private final List<String> recentViews = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        doAnswer(invocation -> {
+            List<PostView> views = invocation.getArgument(0);
+            views.forEach(view -> postViews.add(view.getUserId() + ":" + view.getPostId()));
+            return views.size();
+        }).when(postMapper).insertPostViews(anyList());
+        doAnswer(invocation -> {
+            List<PostView> views = invocation.getArgument(0);
+            views.forEach(view -> recentViews.add(view.getUserId() + ":" + view.getPostId()));
+            return views.size();
+        }).when(postMapper).upsertRecentPostViews(anyList());
+    }
+
+    private PostViewRecorder recorder(int capacity, PostViewRecorder.OverflowPolicy policy, long dedupWindowSeconds) {
+        return new PostViewRecorder(postMapper, new SimpleMeterRegistry(), capacity, policy, dedupWindowSeconds);
+    }
+
+    @Test
+    void repeatedViewWithinDedupWindowIsNotAccepted() {
+        PostViewRecorder recorder = recorder(10, PostViewRecorder.OverflowPolicy.DROP_OLDEST, 60);
+
+        assertTrue(recorder.record("u1", "p1"));
+        assertFalse(recorder.record("u1", "p1"));
+        assertTrue(recorder.record("u2", "p1"));
+        assertTrue(recorder.record("u1", "p2"));
+
+        recorder.drain();
+        assertEquals(List.of("u1:p1", "u2:p1", "u1:p2"), postViews);
+    }
+
+    @Test
+    void everyAcceptedViewIsWrittenToPostView() {
+        // dedup 을 끄면 같은 사용자/게시글 조회도 모두 받아들여짐
+        PostViewRecorder recorder = recorder(10, PostViewRecorder.OverflowPolicy.DROP_OLDEST, 0);
+        int accepted = 0;
+        for (int i = 0; i < 3; i++) {
+            if (recorder.record("u1", "p1")) {
+                accepted++;
+            }
+        }
+        if (recorder.record("u2", "p1")) {
+            accepted++;
+        }
+
+        recorder.drain();
+
+        // 인기 집계와 같은 건수가 post_view 에 저장되고, 최근 본 게시글만 하나로 합쳐짐
+        assertEquals(4, accepted);
+        assertEquals(accepted, postViews.size());
+        assertEquals(List.of("u1:p1", "u2:p1"), recentViews);
+    }
+
+    @Test
+    void dropNewestRejectsViewWhenQueueIsFull() {
+        PostViewRecorder recorder = recorder(2, PostViewRecorder.OverflowPolicy.DROP_NEWEST, 0);
+
+        assertTrue(recorder.record("u1", "p1"));
+        assertTrue(recorder.record("u2", "p1"));
+        assertFalse(recorder.record("u3", "p1"));
+
+        recorder.drain();
+        assertEquals(List.of("u1:p1", "u2:p1"), postViews);
+    }
+
+    @Test
+    void dropOldestAcceptsNewViewWhenQueueIsFull() {
+        PostViewRecorder recorder = recorder(2, PostViewRecorder.OverflowPolicy.DROP_OLDEST, 0);
+
+        assertTrue(recorder.record("u1", "p1"));
+        assertTrue(recorder.record("u2", "p1"));
+        assertTrue(recorder.record("u3", "p1"));
+
+        recorder.drain();
+        assertEquals(List.of("u2:p1", "u3:p1"), postViews);
+    }
+}
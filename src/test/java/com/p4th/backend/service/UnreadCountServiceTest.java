@@ -0,0 +1,126 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.chat.repository.ChatNotificationRepository;
+import com.p4th.backend.dto.response.UnreadCountResponse;
+import com.p4th.backend.mapper.NotificationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class UnreadCountServiceTest {
+
+    private NotificationMapper notificationMapper;
+    private UnreadCountService service;
+    // DB 상태: 사용자별 읽지 않은 전체 회원 대상 알림 수
+    private final Map<String, Integer> unreadBroadcasts = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile Runnable duringLoad = () -> { };
+    // 예약된 작업 (테스트에서 직접 실행)
+    private final List<Runnable> scheduled = new ArrayList<>();
+    // 사용자별 마지막으로 전송된 개수
+    private final Map<String, Integer> pushed = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        notificationMapper = mock(NotificationMapper.class);
+        doAnswer(invocation -> {
+            loads.incrementAndGet();
+            int count = unreadBroadcasts.getOrDefault((String) invocation.getArgument(0), 0);
+            duringLoad.run();
+            return count;
+        }).when(notificationMapper).countUnreadBroadcasts(anyString());
+
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        doAnswer(invocation -> {
+            String destination = invocation.getArgument(0);
+            UnreadCountResponse response = invocation.getArgument(1);
+            pushed.put(destination.substring("/topic/notify.".length()), response.getUnreadCount());
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        doAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return null;
+        }).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        service = new UnreadCountService(notificationMapper, mock(ChatNotificationRepository.class),
+                messagingTemplate, taskScheduler, 100, 600);
+    }
+
+    // 공지 한 건이 커밋됨: 작성자를 제외한 모든 회원의 읽지 않은 개수가 1 늘어남
+    private void commitBroadcast(String authorId, String... userIds) {
+        for (String userId : userIds) {
+            if (!userId.equals(authorId)) {
+                unreadBroadcasts.merge(userId, 1, Integer::sum);
+            }
+        }
+        service.onBroadcastCreated(authorId);
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    void broadcastIncrementsCachedUsersExceptAuthor() {
+        service.getUnreadCount("u1");
+        service.getUnreadCount("author");
+
+        commitBroadcast("author", "u1", "author");
+        runScheduled();
+
+        assertEquals(1, service.getUnreadCount("u1").getUnreadCount());
+        assertEquals(0, service.getUnreadCount("author").getUnreadCount());
+        assertEquals(1, pushed.get("u1").intValue());
+        assertNull(pushed.get("author"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void countLoadedWhileBroadcastCommitsIsNotCached() {
+        // 캐시에 없는 사용자의 개수를 읽은 직후 공지가 커밋됨
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            commitBroadcast("author", "u1");
+        };
+
+        assertEquals(0, service.getUnreadCount("u1").getUnreadCount());
+        runScheduled();
+
+        // 공지가 빠진 개수는 캐시되지 않았으므로 다시 적재됨
+        assertEquals(1, service.getUnreadCount("u1").getUnreadCount());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void entryReloadedBeforeScheduledAdjustIsNotIncrementedTwice() {
+        service.getUnreadCount("u1");
+        commitBroadcast("author", "u1");
+        // 예약된 증가 작업이 실행되기 전에 항목이 비워지고 공지가 포함된 개수로 다시 적재됨
+        service.invalidateAll();
+        assertEquals(1, service.getUnreadCount("u1").getUnreadCount());
+
+        runScheduled();
+
+        assertEquals(1, service.getUnreadCount("u1").getUnreadCount());
+        assertNull(pushed.get("u1"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.domain.AccountStatus;
+import com.p4th.backend.domain.User;
+import com.p4th.backend.mapper.AuthMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class UserAuthStatusCacheTest {
+
+    private AuthMapper authMapper;
+    private UserAuthStatusCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile AccountStatus status = AccountStatus.ACTIVE;
+    private volatile Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        authMapper = mock(AuthMapper.class);
+        doAnswer(invocation -> {
+            loads.incrementAndGet();
+            List<String> userIds = invocation.getArgument(0);
+            AccountStatus current = status;
+            duringLoad.run();
+            return userIds.stream()
+                    .filter(userId -> !userId.equals("unknown"))
+                    .map(userId -> user(userId, current))
+                    .toList();
+        }).when(authMapper).selectAuthStatusesByUserIds(anyList());
+        cache = new UserAuthStatusCache(authMapper, 100, 300);
+    }
+
+    @Test
+    void cachesLoadedStatus() {
+        assertFalse(cache.get("u1").isBlocked());
+        assertFalse(cache.get("u1").isBlocked());
+        assertEquals(1, loads.get());
+        assertNull(cache.get("unknown"));
+    }
+
+    @Test
+    void invalidateReloadsNextTime() {
+        cache.get("u1");
+        status = AccountStatus.BLOCKED;
+
+        cache.invalidate("u1");
+
+        assertTrue(cache.get("u1").isBlocked());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void statusLoadedBeforeConcurrentInvalidateIsNotCached() {
+        // 이전 상태를 읽은 직후 관리자가 사용자를 차단하고 무효화함
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            status = AccountStatus.BLOCKED;
+            cache.invalidate("u1");
+        };
+
+        assertFalse(cache.get("u1").isBlocked());
+
+        // 무효화 이전에 읽은 상태는 캐시되지 않았으므로 다시 적재됨
+        assertTrue(cache.get("u1").isBlocked());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void refreshDoesNotOverwriteEntryInvalidatedDuringReload() {
+        cache.get("u1");
+        // 재조회로 이전 상태를 읽은 직후 차단되어 무효화, 다른 요청이 차단 상태를 다시 적재함
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            status = AccountStatus.BLOCKED;
+            cache.invalidate("u1");
+            assertTrue(cache.get("u1").isBlocked());
+        };
+
+        cache.refresh();
+
+        assertTrue(cache.get("u1").isBlocked());
+        assertEquals(3, loads.get());
+    }
+
+    private static User user(String userId, AccountStatus accountStatus) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setAccountStatus(accountStatus);
+        return user;
+    }
+}
@@ -0,0 +1,160 @@
+package com.p4th.backend.service;
+
+import com.p4th.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ViewCountAccumulatorTest {
+
+    private PostMapper postMapper;
+    private ViewCountAccumulator accumulator;
+    // DB에 반영된 것으로 기록된 게시글별 증가분
+    private final Map<String, Long> flushed = new ConcurrentHashMap<>();
+    private final AtomicBoolean failFlush = new AtomicBoolean();
+    private Runnable duringFlush = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        doAnswer(invocation -> {
+            duringFlush.run();
+            if (failFlush.get()) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            Map<String, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((postId, delta) -> flushed.merge(postId, delta, Long::sum));
+            return deltas.size();
+        }).when(postMapper).addViewCounts(anyMap());
+        accumulator = new ViewCountAccumulator(postMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltas() {
+        for (int i = 0; i < 3; i++) {
+            accumulator.increment("p1");
+        }
+        accumulator.increment("p2");
+
+        accumulator.flush();
+
+        assertEquals(3L, flushed.get("p1"));
+        assertEquals(1L, flushed.get("p2"));
+        assertEquals(0, accumulator.getPendingDelta("p1"));
+        assertEquals(0, accumulator.getPendingTotal());
+    }
+
+    @Test
+    void pendingDeltaDoesNotDropWhileFlushing() {
+        accumulator.increment("p1");
+        accumulator.increment("p1");
+        List<Long> seen = new ArrayList<>();
+        duringFlush = () -> {
+            accumulator.increment("p1");
+            seen.add(accumulator.getPendingDelta("p1"));
+        };
+
+        accumulator.flush();
+
+        // DB 반영 중에는 반영 대상(2)과 새 증가분(1)이 모두 보이고, 반영 후에는 새 증가분만 남는다
+        assertEquals(List.of(3L), seen);
+        assertEquals(1, accumulator.getPendingDelta("p1"));
+    }
+
+    @Test
+    void failedFlushKeepsDeltaForNextFlush() {
+        accumulator.increment("p1");
+        accumulator.increment("p1");
+        failFlush.set(true);
+
+        accumulator.flush();
+
+        assertTrue(flushed.isEmpty());
+        assertEquals(2, accumulator.getPendingDelta("p1"));
+
+        failFlush.set(false);
+        accumulator.flush();
+
+        assertEquals(2L, flushed.get("p1"));
+        assertEquals(0, accumulator.getPendingDelta("p1"));
+    }
+
+    @Test
+    void idlePostIsEvictedAndCountsAgainAfterward() {
+        accumulator.increment("p1");
+        accumulator.flush();
+        assertTrue(accumulator.isTracked("p1"));
+
+        // 한 주기 동안 조회가 없으면 제거됨
+        accumulator.flush();
+        assertFalse(accumulator.isTracked("p1"));
+
+        accumulator.increment("p1");
+        accumulator.flush();
+        assertEquals(2L, flushed.get("p1"));
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLostWhileFlushingAndEvicting() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 20_000;
+        int posts = 1000;
+        Map<String, AtomicLong> expected = new ConcurrentHashMap<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 계속 flush 하면서 조회가 잠시 없는 게시글이 제거되는 상황을 만든다
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                accumulator.flush();
+            }
+        });
+        flusher.start();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    String postId = "p" + random.nextInt(posts);
+                    accumulator.increment(postId);
+                    expected.computeIfAbsent(postId, id -> new AtomicLong()).incrementAndGet();
+                    if (random.nextInt(1000) == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        running.set(false);
+        flusher.join();
+        accumulator.flush();
+
+        assertEquals(0, accumulator.getPendingTotal());
+        long total = 0;
+        for (Map.Entry<String, AtomicLong> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().get(), flushed.getOrDefault(entry.getKey(), 0L), entry.getKey());
+            total += entry.getValue().get();
+        }
+        assertEquals((long) threads * incrementsPerThread, total);
+    }
+}
@@ -0,0 +1,161 @@
+package com.p4th.backend.util;
+
+import com.p4th.backend.util.HtmlSummaryExtractor.HtmlSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HtmlSummaryExtractorTest {
+
+    private static final int MAX_LENGTH = 100;
+
+    // 기존 Jsoup 기반 결과(HtmlContentUtils / HtmlImageUtils)와 같아야 한다.
+    private static HtmlSummary assertSameAsJsoup(String html) {
+        HtmlSummary summary = HtmlSummaryExtractor.extract(html, MAX_LENGTH);
+        assertEquals(HtmlContentUtils.extractPlainText(html, MAX_LENGTH), summary.getPlainText(), () -> "plainText: " + html);
+        assertEquals(HtmlImageUtils.extractFirstImageUrl(html), summary.getThumbnailUrl(), () -> "thumbnailUrl: " + html);
+        assertEquals(HtmlImageUtils.countInlineImages(html), summary.getImageCount(), () -> "imageCount: " + html);
+        return summary;
+    }
+
+    @Test
+    void emptyAndNullContent() {
+        HtmlSummary summary = HtmlSummaryExtractor.extract(null, MAX_LENGTH);
+        assertEquals("", summary.getPlainText());
+        assertNull(summary.getThumbnailUrl());
+        assertEquals(0, summary.getImageCount());
+        assertSameAsJsoup("");
+    }
+
+    @Test
+    void entitiesAreDecoded() {
+        assertSameAsJsoup("<p>Tom &amp; Jerry &lt;3 &quot;quoted&quot; &#54620;&#xAE00; &nbsp;end</p>");
+        assertSameAsJsoup("<p>&copy 2024 &unknown; &amp</p>");
+        assertSameAsJsoup("<img src=\"https://cdn.example.com/a.png?w=1&amp;h=2\">");
+        HtmlSummary summary = assertSameAsJsoup("<p>A&nbsp;&nbsp;B&#8203;C</p>");
+        assertEquals("A BC", summary.getPlainText());
+    }
+
+    @Test
+    void nestedAndUnclosedTags() {
+        assertSameAsJsoup("<div><p>첫 <b>번째 <i>문단</i></b></p><p>두 번째<br>줄바꿈</p></div>");
+        assertSameAsJsoup("<ul><li>하나<li>둘<li>셋</ul>");
+        assertSameAsJsoup("<p>닫히지 않은 <b>굵은 글씨<p>다음 문단");
+        assertSameAsJsoup("<div>a</div>b<span>c</span><div>d</div>");
+        assertSameAsJsoup("1 < 2 그리고 3 <= 4, <3 <- 화살표");
+        assertSameAsJsoup("<!-- 주석 --><!DOCTYPE html><p>본문</p><?xml version=\"1.0\"?>");
+        assertSameAsJsoup("<p>끝나지 않은 <a href=\"x");
+    }
+
+    @Test
+    void spaceAfterBlockOnlyBeforeSiblingText() {
+        assertEquals("ab", assertSameAsJsoup("<p>a</p><b>b</b>").getPlainText());
+        assertEquals("a b", assertSameAsJsoup("<p>a</p> <b>b</b>").getPlainText());
+        assertEquals("ab", assertSameAsJsoup("<p><b>a</p>b").getPlainText());
+        assertSameAsJsoup("<p><span>a</p>b");
+        assertSameAsJsoup("<b><div>a</div></b>c");
+        assertSameAsJsoup("<p>a</p><!-- c -->b");
+    }
+
+    @Test
+    void strayAndImpliedEndTags() {
+        assertEquals("ab", assertSameAsJsoup("a</div>b").getPlainText());
+        assertEquals("a b", assertSameAsJsoup("a</p>b").getPlainText());
+        assertSameAsJsoup("a</br>b");
+        assertSameAsJsoup("<li>a</li><b>c</b>");
+        assertSameAsJsoup("<p>a<blockquote>b</blockquote></p>c");
+        assertSameAsJsoup("<li><ul><li>a</ul>b</li>c");
+        assertSameAsJsoup("<div><span>a</div>b</span>c");
+        assertSameAsJsoup("<a>x<a>y</a>z</a>w");
+        assertSameAsJsoup("<b>a<div>b</b>c</div>d");
+        assertSameAsJsoup("<table><tr><td>a</td><td>b</td></tr></table>c");
+    }
+
+    @Test
+    void scriptAndStyleAreExcluded() {
+        HtmlSummary summary = assertSameAsJsoup(
+                "<style>p { color: red; }</style><p>보이는 글</p><script>var a = '<p>숨김</p>';</script>끝");
+        assertEquals("보이는 글 끝", summary.getPlainText());
+        assertSameAsJsoup("<SCRIPT type=\"text/javascript\">if (a < b) { x(); }</SCRIPT>본문");
+        assertSameAsJsoup("<p>앞</p><script>닫히지 않은 스크립트 <img src=\"https://x.com/a.png\">");
+        assertSameAsJsoup("<textarea><b>그대로</b> 텍스트</textarea><title>제목 &amp; 부제</title>");
+    }
+
+    @Test
+    void imagesWithoutSrcOrImageUrlAreIgnored() {
+        assertSameAsJsoup("<img><img alt=\"없음\"><p>텍스트</p>");
+        assertSameAsJsoup("<img src=\"\"><img src=\"/relative/path\"><img src=\"https://cdn.example.com/photo.JPG\">");
+        HtmlSummary summary = assertSameAsJsoup(
+                "<img data-src=\"a.png\"><img src='b.gif' src='c.png'><img SRC=d.jpeg><img src=\"https://img.example.com/e\">");
+        assertEquals("b.gif", summary.getThumbnailUrl());
+        assertEquals(3, summary.getImageCount());
+    }
+
+    @Test
+    void youtubeIframeBecomesThumbnail() {
+        HtmlSummary summary = assertSameAsJsoup(
+                "<p>영상</p><iframe src=\"https://www.youtube.com/embed/abc123?autoplay=1\"></iframe><img src=\"https://cdn.example.com/a.png\">");
+        assertEquals("https://img.youtube.com/vi/abc123/hqdefault.jpg", summary.getThumbnailUrl());
+        assertEquals(1, summary.getImageCount());
+        assertSameAsJsoup("<iframe src=\"https://youtu.be/xyz789\"></iframe>");
+        assertSameAsJsoup("<iframe src=\"https://www.youtube.com/watch?v=v1d&amp;t=10\"></iframe>");
+        assertSameAsJsoup("<iframe src=\"https://vimeo.com/12345\"></iframe><iframe src=\"https://www.youtube.com/\"></iframe>");
+        // img 태그의 YouTube 링크는 썸네일로 쓰이지만 이미지 개수에는 포함되지 않음
+        assertSameAsJsoup("<img src=\"https://www.youtube.com/embed/imgvid\">");
+    }
+
+    @Test
+    void plainTextIsTruncatedAtMaxLength() {
+        StringBuilder html = new StringBuilder("<p>");
+        for (int i = 0; i < 30; i++) {
+            html.append("단어").append(i).append(" <b>강조</b> ");
+        }
+        html.append("</p>");
+        HtmlSummary summary = assertSameAsJsoup(html.toString());
+        assertEquals(MAX_LENGTH + 3, summary.getPlainText().length());
+
+        assertSameAsJsoup("<p>" + "가".repeat(MAX_LENGTH) + "</p>");
+        assertSameAsJsoup("<p>" + "가".repeat(MAX_LENGTH) + " </p><p>  </p>");
+        assertSameAsJsoup("<p>" + "가".repeat(MAX_LENGTH - 1) + "</p><p>나다</p>");
+        assertSameAsJsoup("<p>" + "가".repeat(MAX_LENGTH - 1) + "&amp;&amp;</p>");
+    }
+
+    @Test
+    void randomEditorHtmlMatchesJsoup() {
+        Random random = new Random(7);
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder html = new StringBuilder();
+            appendRandomNodes(html, random, 3);
+            assertSameAsJsoup(html.toString());
+        }
+    }
+
+    private static final String[] CONTAINER_TAGS = {"p", "div", "b", "span", "strong", "h2", "blockquote", "ul", "li", "a"};
+    private static final String[] LEAF_NODES = {
+            "텍스트", "hello", " ", "\n", "\t", "&amp;", "&lt;", "&nbsp;", "&#44032;", "1 < 2", "<3", "<br>", "<br/>", "</br>",
+            "<img src=\"https://cdn.example.com/a.png\">", "<img src=\"b.jpg\" alt=\"b\">", "<img>",
+            "<img src=\"https://www.youtube.com/embed/r4nd\">",
+            "<iframe src=\"https://www.youtube.com/embed/vid\"></iframe>", "<iframe src=\"https://vimeo.com/1\"></iframe>",
+            "<script>x<y</script>", "<style>.a{}</style>", "<!-- c -->", "</div>", "</li>", "</span>"
+    };
+
+    // 에디터가 만드는 형태의 HTML: 중첩된 태그에 텍스트/엔티티/미디어가 섞이고, p/li의 닫는 태그는 생략되기도 함
+    private static void appendRandomNodes(StringBuilder html, Random random, int depth) {
+        for (int n = random.nextInt(5); n >= 0; n--) {
+            if (depth > 0 && random.nextInt(3) == 0) {
+                String tag = CONTAINER_TAGS[random.nextInt(CONTAINER_TAGS.length)];
+                html.append('<').append(tag).append('>');
+                appendRandomNodes(html, random, depth - 1);
+                boolean optionalEnd = "p".equals(tag) || "li".equals(tag);
+                if (!optionalEnd || random.nextBoolean()) {
+                    html.append("</").append(tag).append('>');
+                }
+            } else {
+                html.append(LEAF_NODES[random.nextInt(LEAF_NODES.length)]);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.p4th.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KoreanNgramAnalyzerTest {
+
+    private static final String[] SYLLABLES = {"김", "밥", "을", "먹", "었", "다", "천", "국", "라", "면", "맛", "집", "서", "울", "의"};
+    private static final String[] LATIN_WORDS = {"spring", "springboot", "java", "jpa", "mybatis", "2024", "v3"};
+
+    // PostSearchIndex와 같은 방식: 검색어의 모든 단어가 문서 단어에 포함되면 검색됨
+    private static boolean matches(List<String> indexedTerms, String query) {
+        Set<String> indexed = new HashSet<>(indexedTerms);
+        List<String> terms = KoreanNgramAnalyzer.analyzeForQuery(query);
+        return !terms.isEmpty() && indexed.containsAll(terms);
+    }
+
+    private static boolean titleMatches(String title, String query) {
+        return matches(KoreanNgramAnalyzer.analyzeForIndex(title), query);
+    }
+
+    private static boolean bodyMatches(String body, String query) {
+        return matches(KoreanNgramAnalyzer.analyzeBodyForIndex(body), query);
+    }
+
+    @Test
+    void singleSyllableQueryMatchesTitlesOnly() {
+        assertTrue(titleMatches("김밥천국 방문기", "밥"));
+        assertTrue(titleMatches("밥을 먹었다", "밥"));
+        assertFalse(titleMatches("라면 맛집", "밥"));
+        // 본문은 bigram 만 색인
+        assertFalse(bodyMatches("김밥천국 방문기", "밥"));
+        assertTrue(bodyMatches("김밥천국 방문기", "김밥"));
+    }
+
+    @Test
+    void hangulQueryUsesBigrams() {
+        assertEquals(List.of("밥"), KoreanNgramAnalyzer.analyzeForQuery("밥"));
+        assertEquals(List.of("김밥"), KoreanNgramAnalyzer.analyzeForQuery("김밥"));
+        assertEquals(List.of("김밥", "밥천", "천국"), KoreanNgramAnalyzer.analyzeForQuery("김밥천국"));
+        assertTrue(bodyMatches("오늘은 김밥천국에서", "김밥천국"));
+        assertTrue(titleMatches("오늘은 김밥천국에서", "김밥천국"));
+        assertFalse(bodyMatches("김밥 천국", "김밥천국"));
+    }
+
+    @Test
+    void latinQueryMatchesWordPrefix() {
+        assertTrue(bodyMatches("SpringBoot 3.1 업그레이드", "spring"));
+        assertTrue(bodyMatches("SpringBoot 3.1 업그레이드", "SPRINGBOOT"));
+        assertTrue(titleMatches("mybatis 설정", "my"));
+        assertFalse(bodyMatches("spring", "springboot"));
+        // 단어 중간부터 시작하는 영문 부분 검색은 지원하지 않음
+        assertFalse(bodyMatches("springboot", "boot"));
+    }
+
+    @Test
+    void fullWidthAndCaseAreNormalized() {
+        assertTrue(bodyMatches("ＳＰＲＩＮＧ 공부", "spring"));
+        assertTrue(titleMatches("spring 공부", "Ｓｐｒｉｎｇ"));
+    }
+
+    @Test
+    void longLatinWordIsSearchableByTruncatedQuery() {
+        String word = "abcdefghijklmnopqrstuvwxyz";
+        assertTrue(bodyMatches(word, word));
+        assertTrue(bodyMatches(word, "abcdefghij"));
+    }
+
+    @Test
+    void textBeyondTenThousandCharactersIsIndexed() {
+        String body = "가나다 ".repeat(5000) + "김밥천국";
+        assertTrue(body.length() > 20000);
+        assertTrue(bodyMatches(body, "김밥천국"));
+        assertTrue(bodyMatches(body, "천국"));
+    }
+
+    @Test
+    void htmlIsStrippedBeforeAnalysis() {
+        List<String> tokens = KoreanNgramAnalyzer.analyzeHtmlForIndex("<p>김밥</p><img src=\"spring.png\">");
+        assertTrue(tokens.contains("김밥"));
+        assertFalse(tokens.contains("img"));
+        assertFalse(tokens.contains("spring"));
+    }
+
+    @Test
+    void indexedTermsNeverExceedTextLength() {
+        // 본문 길이와 관계없이 문서당 색인 단어 수가 글자 수에 비례하는지 확인 (색인 크기 예측 가능)
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            StringBuilder body = new StringBuilder();
+            int paragraphs = 1 + random.nextInt(200);
+            for (int p = 0; p < paragraphs; p++) {
+                body.append(randomDocument(random)).append('\n');
+            }
+            String text = body.toString();
+            assertTrue(KoreanNgramAnalyzer.analyzeBodyForIndex(text).size() <= text.length());
+            assertTrue(KoreanNgramAnalyzer.analyzeForIndex(text).size() <= 2 * text.length());
+        }
+    }
+
+    @Test
+    void hangulQueriesMatchSameDocumentsAsLike() {
+        Random random = new Random(42);
+        List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            corpus.add(randomDocument(random));
+        }
+        for (int i = 0; i < 300; i++) {
+            String query = randomHangulWord(random, 1 + random.nextInt(4));
+            for (String document : corpus) {
+                boolean like = document.contains(query);
+                boolean title = titleMatches(document, query);
+                boolean body = bodyMatches(document, query);
+                if (query.length() <= 2) {
+                    // 2음절 이하 검색어는 n-gram 하나와 같으므로 제목은 LIKE '%검색어%' 와 결과가 같음
+                    assertEquals(like, title, query + " / " + document);
+                } else {
+                    // 3음절 이상은 bigram 교집합이므로 LIKE 결과를 모두 포함
+                    assertTrue(!like || title, query + " / " + document);
+                }
+                if (query.length() == 2) {
+                    assertEquals(like, body, query + " / " + document);
+                } else if (query.length() > 2) {
+                    assertTrue(!like || body, query + " / " + document);
+                } else {
+                    assertFalse(body, query + " / " + document);
+                }
+            }
+        }
+    }
+
+    private static String randomDocument(Random random) {
+        StringBuilder document = new StringBuilder();
+        int words = 3 + random.nextInt(10);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                document.append(' ');
+            }
+            if (random.nextInt(5) == 0) {
+                document.append(LATIN_WORDS[random.nextInt(LATIN_WORDS.length)]);
+            } else {
+                document.append(randomHangulWord(random, 1 + random.nextInt(5)));
+            }
+        }
+        return document.toString();
+    }
+
+    private static String randomHangulWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
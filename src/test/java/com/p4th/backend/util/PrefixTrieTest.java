@@ -0,0 +1,145 @@
+package com.p4th.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixTrieTest {
+
+    @Test
+    void topKReturnsHighestWeightsUnderPrefix() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("spring", "Spring", 5);
+        trie.add("springboot", "SpringBoot", 9);
+        trie.add("spa", "SPA", 7);
+        trie.add("java", "Java", 20);
+
+        assertEquals(List.of("SpringBoot", "SPA", "Spring"), trie.topK("sp", 10));
+        assertEquals(List.of("SpringBoot", "Spring"), trie.topK("spring", 10));
+        assertEquals(List.of("Java", "SpringBoot"), trie.topK("", 2));
+        assertEquals(List.of(), trie.topK("python", 10));
+        assertEquals(List.of(), trie.topK("sp", 0));
+    }
+
+    @Test
+    void weightsAccumulateAndKeepFirstDisplayText() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("김밥", "김밥", 1);
+        trie.add("김밥", "김밥!!", 2);
+
+        assertEquals(3, trie.getWeight("김밥"));
+        assertEquals(List.of("김밥"), trie.topK("김", 5));
+        assertEquals(0, trie.getWeight("김"));
+    }
+
+    @Test
+    void decrementToZeroRemovesKeyAndLowersAncestors() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("abc", "abc", 10);
+        trie.add("abd", "abd", 3);
+        trie.add("x", "x", 5);
+
+        trie.add("abc", "abc", -10);
+
+        assertEquals(0, trie.getWeight("abc"));
+        assertEquals(List.of("x", "abd"), trie.topK("", 5));
+        assertEquals(List.of("abd"), trie.topK("ab", 5));
+
+        // 없는 키의 감소는 노드를 만들지 않음
+        int nodes = trie.nodeCount();
+        trie.add("zzz", "zzz", -1);
+        assertEquals(nodes, trie.nodeCount());
+
+        // 다시 등록하면 새 표시용 원문을 사용
+        trie.add("abc", "ABC", 1);
+        assertEquals(List.of("abd", "ABC"), trie.topK("ab", 5));
+    }
+
+    @Test
+    void ignoresEmptyKeysAndZeroDelta() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add(null, "x", 1);
+        trie.add("", "x", 1);
+        trie.add("a", "a", 0);
+
+        assertEquals(1, trie.nodeCount());
+        assertEquals(List.of(), trie.topK("", 5));
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        PrefixTrie trie = new PrefixTrie(16);
+        for (int i = 0; i < 1000; i++) {
+            trie.add("key" + i, "key" + i, i + 1);
+        }
+
+        assertEquals(1000, trie.getWeight("key999"));
+        assertEquals(List.of("key999", "key998", "key997"), trie.topK("key", 3));
+        assertTrue(trie.nodeCount() > 1000);
+    }
+
+    @Test
+    void randomUpdatesMatchBruteForceRanking() {
+        String alphabet = "abc가나";
+        Random random = new Random(11);
+        PrefixTrie trie = new PrefixTrie(16);
+        Map<String, Integer> weights = new HashMap<>();
+
+        for (int i = 0; i < 5000; i++) {
+            String key = randomString(random, alphabet, 1 + random.nextInt(5));
+            int delta = random.nextInt(4) == 0 ? -(1 + random.nextInt(5)) : 1 + random.nextInt(5);
+            trie.add(key, key, delta);
+            if (delta > 0 || weights.containsKey(key)) {
+                int updated = Math.max(0, weights.getOrDefault(key, 0) + delta);
+                if (updated == 0) {
+                    weights.remove(key);
+                } else {
+                    weights.put(key, updated);
+                }
+            }
+
+            if (i % 50 == 0) {
+                String prefix = randomString(random, alphabet, random.nextInt(3));
+                int limit = 1 + random.nextInt(8);
+                assertSameRanking(weights, trie, prefix, limit);
+            }
+        }
+    }
+
+    // 가중치가 같은 키끼리의 순서는 정해져 있지 않으므로 가중치 순서와 키의 가중치가 맞는지 비교한다.
+    private static void assertSameRanking(Map<String, Integer> weights, PrefixTrie trie, String prefix, int limit) {
+        List<Integer> expected = new ArrayList<>();
+        weights.forEach((key, weight) -> {
+            if (key.startsWith(prefix)) {
+                expected.add(weight);
+            }
+        });
+        expected.sort(Comparator.reverseOrder());
+        List<Integer> expectedTop = expected.subList(0, Math.min(limit, expected.size()));
+
+        List<String> actual = trie.topK(prefix, limit);
+        List<Integer> actualWeights = new ArrayList<>();
+        for (String key : actual) {
+            assertTrue(key.startsWith(prefix), key);
+            assertEquals(weights.get(key).intValue(), trie.getWeight(key), key);
+            actualWeights.add(weights.get(key));
+        }
+        assertEquals(expectedTop, actualWeights, () -> "prefix=" + prefix + ", limit=" + limit);
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+-- 매퍼 SQL 테스트용 스키마 (MySQL 8). 테스트하는 쿼리가 사용하는 컬럼만 정의한다.
+
+CREATE TABLE user_info (
+    user_id    VARCHAR(50) NOT NULL PRIMARY KEY,
+    nickname   VARCHAR(50),
+    created_at DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE board (
+    board_id          VARCHAR(26)  NOT NULL PRIMARY KEY,
+    category_id       VARCHAR(26),
+    board_name        VARCHAR(100),
+    post_count        INT          NOT NULL DEFAULT 0,
+    recent_post_count INT          NOT NULL DEFAULT 0,
+    updated_at        DATETIME     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE post (
+    post_id       VARCHAR(26) NOT NULL PRIMARY KEY,
+    board_id      VARCHAR(26),
+    user_id       VARCHAR(50),
+    title         VARCHAR(255),
+    thumbnail_url VARCHAR(500),
+    created_at    DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE notification (
+    notification_id VARCHAR(26)  NOT NULL PRIMARY KEY,
+    user_id         VARCHAR(50)  NOT NULL,
+    post_id         VARCHAR(26),
+    comment_id      VARCHAR(26),
+    type            VARCHAR(20)  NOT NULL,
+    title           VARCHAR(255),
+    content         TEXT,
+    read_yn         TINYINT      NOT NULL DEFAULT 0,
+    read_at         DATETIME,
+    created_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by      VARCHAR(50)
+);
+
+CREATE TABLE broadcast_notification (
+    broadcast_id VARCHAR(26)  NOT NULL PRIMARY KEY,
+    post_id      VARCHAR(26),
+    author_id    VARCHAR(50)  NOT NULL,
+    type         VARCHAR(20)  NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    content      TEXT,
+    created_at   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by   VARCHAR(50),
+    KEY idx_broadcast_notification_created_at (created_at)
+);
+
+CREATE TABLE user_notification_state (
+    user_id              VARCHAR(50) NOT NULL PRIMARY KEY,
+    broadcast_read_up_to VARCHAR(26)
+);
+
+CREATE TABLE broadcast_notification_read (
+    broadcast_id VARCHAR(26) NOT NULL,
+    user_id      VARCHAR(50) NOT NULL,
+    read_at      DATETIME    NOT NULL,
+    PRIMARY KEY (user_id, broadcast_id)
+);